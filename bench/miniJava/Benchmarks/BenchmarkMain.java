@@ -0,0 +1,36 @@
+package miniJava.Benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Runs the benchmarks in this package with the GC profiler, so allocation rate (gc.alloc.rate.norm, bytes per op)
+//  is reported next to ops/sec. Arguments are JMH's: a regex selecting benchmarks, e.g. "Scanner", and any options.
+//
+// This directory is a separate source root from src/, built with it by bench/pom.xml:
+//  cd bench && mvn -B package
+//  java -jar target/benchmarks.jar [regex] [-wi 3 -i 5 -p size=medium ...]
+public class BenchmarkMain {
+	public static void main(String[] args) throws IOException, RunnerException, CommandLineOptionException {
+		CommandLineOptions command = new CommandLineOptions(args);
+		if (command.shouldHelp()){
+			command.showHelp();
+			return;
+		}
+		Options options = new OptionsBuilder()
+			.parent(command)
+			.addProfiler(GCProfiler.class)
+			.build();
+		if (command.shouldList()){
+			new Runner(options).list();
+			return;
+		}
+		new Runner(options).run();
+	}
+}
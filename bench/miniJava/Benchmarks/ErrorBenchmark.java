@@ -0,0 +1,51 @@
+package miniJava.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import miniJava.CompilerError;
+import miniJava.ErrorReporter;
+import miniJava.SyntacticAnalyzer.ArraySourceBuffer;
+import miniJava.SyntacticAnalyzer.Parser;
+import miniJava.SyntacticAnalyzer.Scanner;
+
+// Cost of the error path: creating a CompilerError with and without a captured stack trace,
+//  and parsing a small file whose syntax error throws a SyntaxError through the Parser and recovers
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorBenchmark {
+	private byte[] failing;
+
+	@Setup
+	public void setup(){
+		failing = Inputs.failing(Inputs.SMALL);
+	}
+
+	@Benchmark
+	public CompilerError createError(){
+		CompilerError.captureStackTraces = false;
+		return new CompilerError("Unexpected token", "Bench.java", 12, 4, 100, 101);
+	}
+
+	@Benchmark
+	public CompilerError createErrorWithStack(){
+		CompilerError.captureStackTraces = true;
+		try {
+			return new CompilerError("Unexpected token", "Bench.java", 12, 4, 100, 101);
+		} finally {
+			CompilerError.captureStackTraces = false;
+		}
+	}
+
+	@Benchmark
+	public boolean parseWithSyntaxError(){
+		ErrorReporter reporter = new ErrorReporter();
+		new Parser(new Scanner(new ArraySourceBuffer(failing), reporter), reporter).parse();
+		return reporter.hasErrors();
+	}
+}
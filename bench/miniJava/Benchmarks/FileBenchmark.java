@@ -0,0 +1,44 @@
+package miniJava.Benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import miniJava.Compiler;
+import miniJava.ErrorReporter;
+
+// Per-file overhead: Compiler.compileFile on a file on disk, including opening (or mapping) it,
+//  compared across sizes against the in-memory numbers of ParserBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileBenchmark {
+	@Param({Inputs.SMALL, Inputs.MEDIUM, Inputs.HUGE})
+	public String size;
+
+	private File file;
+
+	@Setup
+	public void setup() throws IOException {
+		file = File.createTempFile("bench", ".java");
+		Files.write(file.toPath(), Inputs.valid(size));
+	}
+
+	@TearDown
+	public void tearDown(){
+		file.delete();
+	}
+
+	@Benchmark
+	public boolean compileFile() throws IOException {
+		ErrorReporter reporter = new ErrorReporter();
+		Compiler.compileFile(file, reporter);
+		return reporter.hasErrors();
+	}
+}
@@ -0,0 +1,61 @@
+package miniJava.Benchmarks;
+
+import java.nio.charset.StandardCharsets;
+
+// Benchmark inputs: a representative miniJava class repeated until the input reaches the requested size
+public class Inputs {
+	public static final String SMALL = "small";   // ~1KB, a typical hand-written test
+	public static final String MEDIUM = "medium"; // ~100KB
+	public static final String HUGE = "huge";     // ~10MB, a generated file
+
+	private static final String CLASS_TEMPLATE = 
+		"// class %d\n" +
+		"class C%d {\n" +
+		"    int count;\n" +
+		"    int[] values;\n" +
+		"    C%d next;\n" +
+		"    /* sums the values,\n" +
+		"       skipping negative ones */\n" +
+		"    public int sum(int limit) {\n" +
+		"        int total = 0;\n" +
+		"        int i = 0;\n" +
+		"        while (i < limit && i < values.length) {\n" +
+		"            if (values[i] > 0) { total = total + values[i]; } else total = total - 1;\n" +
+		"            i = i + 1;\n" +
+		"        }\n" +
+		"        this.count = next.sum(limit - 1) * 2 ;\n" +
+		"        return total;\n" +
+		"    }\n" +
+		"    static void reset(C%d c, boolean all) {\n" +
+		"        c.values = new int[10];\n" +
+		"        c.next = new C%d();\n" +
+		"        all = !all || c.count == 0;\n" +
+		"    }\n" +
+		"}\n";
+
+	public static int targetBytes(String size){
+		switch (size){
+			case SMALL: return 1 << 10;
+			case MEDIUM: return 100 << 10;
+			case HUGE: return 10 << 20;
+			default: throw new IllegalArgumentException(size);
+		}
+	}
+
+	public static byte[] valid(String size){
+		int target = targetBytes(size);
+		StringBuilder out = new StringBuilder(target + CLASS_TEMPLATE.length() * 2);
+		for (int i = 0; out.length() < target; i++){
+			out.append(String.format(CLASS_TEMPLATE, i, i, i, i, i));
+		}
+		return out.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	// valid(size) with a syntax error in its last class
+	public static byte[] failing(String size){
+		String valid = new String(valid(size), StandardCharsets.US_ASCII);
+		int last = valid.lastIndexOf("int total = 0;");
+		return (valid.substring(0, last) + "int total = ;" + valid.substring(last + "int total = 0;".length()))
+			.getBytes(StandardCharsets.US_ASCII);
+	}
+}
@@ -0,0 +1,36 @@
+package miniJava.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import miniJava.ErrorReporter;
+import miniJava.SyntacticAnalyzer.ArraySourceBuffer;
+import miniJava.SyntacticAnalyzer.Parser;
+import miniJava.SyntacticAnalyzer.Scanner;
+
+// Lex+parse throughput, the way Compiler.compileFile runs them
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+	@Param({Inputs.SMALL, Inputs.MEDIUM, Inputs.HUGE})
+	public String size;
+
+	private byte[] source;
+
+	@Setup
+	public void setup(){
+		source = Inputs.valid(size);
+	}
+
+	@Benchmark
+	public boolean lexAndParse(){
+		ErrorReporter reporter = new ErrorReporter();
+		new Parser(new Scanner(new ArraySourceBuffer(source), reporter), reporter).parse();
+		return reporter.hasErrors();
+	}
+}
@@ -0,0 +1,50 @@
+package miniJava.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import miniJava.ErrorReporter;
+import miniJava.SyntacticAnalyzer.ArraySourceBuffer;
+import miniJava.SyntacticAnalyzer.Scanner;
+import miniJava.SyntacticAnalyzer.TokenStore;
+import miniJava.SyntacticAnalyzer.TokenType;
+
+// Raw lexing throughput: Scanner.scan() (a Token per token) and Scanner.scanInto() (TokenStore),
+//  with the hand-written scanner and the generated DFA (Scanner.tableDriven)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScannerBenchmark {
+	@Param({Inputs.SMALL, Inputs.MEDIUM, Inputs.HUGE})
+	public String size;
+
+	@Param({"false", "true"})
+	public boolean tableDriven;
+
+	private byte[] source;
+
+	@Setup
+	public void setup(){
+		source = Inputs.valid(size);
+		Scanner.tableDriven = tableDriven;
+	}
+
+	@Benchmark
+	public int scanTokens(){
+		Scanner scanner = new Scanner(new ArraySourceBuffer(source), new ErrorReporter());
+		int n = 0;
+		while (scanner.scan().getTokenType() != TokenType.EOT){
+			n++;
+		}
+		return n;
+	}
+
+	@Benchmark
+	public TokenStore scanIntoStore(){
+		return TokenStore.scanAll(new Scanner(new ArraySourceBuffer(source), new ErrorReporter()));
+	}
+}
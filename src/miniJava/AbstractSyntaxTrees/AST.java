@@ -0,0 +1,280 @@
+package miniJava.AbstractSyntaxTrees;
+
+import java.util.Arrays;
+
+import miniJava.SyntacticAnalyzer.SourceBuffer;
+
+// Arena holding every node of one file's syntax tree in parallel primitive arrays; a node is an int handle into them.
+//  Each node has a kind (NodeKind ordinal), the source range [start,end) of its principal token (see NodeKind),
+//  and a range of the shared child array. Names, operators and literals are read from the source through the span.
+//
+//  Nodes are built bottom-up: a parent is added after its children, so the root is the last node.
+//  A node with a list of children collects them on a scratch stack first:
+//   int mark = ast.mark(); ast.push(child)...; int node = ast.addList(kind, start, end, mark);
+//
+//  A tree is walked (see visitChildren) by one thread at a time.
+//
+//  Size per node (no per-node objects): 1 (kind) + 4 (start) + 4 (end) + 4 (first child) + 4 (child count) = 17 bytes,
+//   plus 4 bytes per child reference.
+public class AST {
+	// an absent optional child
+	public static final int NONE = -1;
+
+	private static final NodeKind[] KINDS = NodeKind.values();
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private SourceBuffer _source;
+	private byte[] _kinds = new byte[INITIAL_CAPACITY];
+	private int[] _starts = new int[INITIAL_CAPACITY];
+	private int[] _ends = new int[INITIAL_CAPACITY];
+	private int[] _firstChild = new int[INITIAL_CAPACITY];
+	private int[] _childCount = new int[INITIAL_CAPACITY];
+	private int _size = 0;
+
+	private int[] _children = new int[INITIAL_CAPACITY];
+	private int _childrenSize = 0;
+
+	private int[] _stack = new int[64];
+	private int _stackSize = 0;
+
+	private int _root = NONE;
+
+	// the walk in progress (see visitChildren): nodes still to visit, and the node last handed to a visitor
+	private int[] _walk = new int[64];
+	private int _walkSize = 0;
+	private int _dispatched = NONE;
+	private Visitor<?, ?> _dispatchedTo;
+	private Object _dispatchedArg;
+
+	public AST(SourceBuffer source){
+		this._source = source;
+	}
+
+	public SourceBuffer source(){
+		return _source;
+	}
+
+	// number of nodes in the arena, including any left unreachable by error recovery
+	public int size(){
+		return _size;
+	}
+
+	public int root(){
+		return _root;
+	}
+
+	public void setRoot(int node){
+		_root = node;
+	}
+
+	public NodeKind kind(int node){
+		return KINDS[_kinds[node]];
+	}
+
+	public int start(int node){
+		return _starts[node];
+	}
+
+	public int end(int node){
+		return _ends[node];
+	}
+
+	// source text of the node's principal token: a name, operator, literal or keyword
+	public CharSequence text(int node){
+		return _source.text(_starts[node], _ends[node]);
+	}
+
+	public int line(int node){
+		return _source.lines().line(_starts[node]);
+	}
+
+	public int col(int node){
+		return _source.lines().col(_starts[node]);
+	}
+
+	public int childCount(int node){
+		return _childCount[node];
+	}
+
+	// i-th child of node, or NONE for an absent optional child
+	public int child(int node, int i){
+		if (i < 0 || i >= _childCount[node]){
+			throw new IndexOutOfBoundsException(i);
+		}
+		return _children[_firstChild[node] + i];
+	}
+
+	// Dispatches node to the visitor method for its kind
+	public <A, R> R accept(int node, Visitor<A, R> v, A arg){
+		switch (kind(node)){
+			case Program: return v.visitProgram(this, node, arg);
+			case PackageDecl: return v.visitPackageDecl(this, node, arg);
+			case ImportDecl: return v.visitImportDecl(this, node, arg);
+			case ClassDecl: return v.visitClassDecl(this, node, arg);
+			case FieldDecl: return v.visitFieldDecl(this, node, arg);
+			case MethodDecl: return v.visitMethodDecl(this, node, arg);
+			case Modifiers: return v.visitModifiers(this, node, arg);
+			case Modifier: return v.visitModifier(this, node, arg);
+			case Parameters: return v.visitParameters(this, node, arg);
+			case Parameter: return v.visitParameter(this, node, arg);
+			case PrimitiveType: return v.visitPrimitiveType(this, node, arg);
+			case VoidType: return v.visitVoidType(this, node, arg);
+			case ClassType: return v.visitClassType(this, node, arg);
+			case ArrayType: return v.visitArrayType(this, node, arg);
+			case Block: return v.visitBlock(this, node, arg);
+			case VarDeclStmt: return v.visitVarDeclStmt(this, node, arg);
+			case AssignStmt: return v.visitAssignStmt(this, node, arg);
+			case ExprStmt: return v.visitExprStmt(this, node, arg);
+			case ReturnStmt: return v.visitReturnStmt(this, node, arg);
+			case IfStmt: return v.visitIfStmt(this, node, arg);
+			case WhileStmt: return v.visitWhileStmt(this, node, arg);
+			case DoWhileStmt: return v.visitDoWhileStmt(this, node, arg);
+			case ForStmt: return v.visitForStmt(this, node, arg);
+			case ForEachVarDecl: return v.visitForEachVarDecl(this, node, arg);
+			case ThrowStmt: return v.visitThrowStmt(this, node, arg);
+			case TryStmt: return v.visitTryStmt(this, node, arg);
+			case BreakStmt: return v.visitBreakStmt(this, node, arg);
+			case ContinueStmt: return v.visitContinueStmt(this, node, arg);
+			case BinaryExpr: return v.visitBinaryExpr(this, node, arg);
+			case UnaryExpr: return v.visitUnaryExpr(this, node, arg);
+			case PostfixExpr: return v.visitPostfixExpr(this, node, arg);
+			case TernaryExpr: return v.visitTernaryExpr(this, node, arg);
+			case LiteralExpr: return v.visitLiteralExpr(this, node, arg);
+			case ArrayLiteralExpr: return v.visitArrayLiteralExpr(this, node, arg);
+			case NewObjectExpr: return v.visitNewObjectExpr(this, node, arg);
+			case NewArrayExpr: return v.visitNewArrayExpr(this, node, arg);
+			case IdRef: return v.visitIdRef(this, node, arg);
+			case ThisRef: return v.visitThisRef(this, node, arg);
+			case FieldRef: return v.visitFieldRef(this, node, arg);
+			case IndexRef: return v.visitIndexRef(this, node, arg);
+			case CallExpr: return v.visitCallExpr(this, node, arg);
+			default: throw new IllegalStateException("unknown node kind " + kind(node));
+		}
+	}
+
+	// Visits each present child of node in order, returning once they have all been visited.
+	//  The walk keeps the nodes still to visit on a stack of its own, not Java's: a child whose visit ends in the default
+	//  Visitor.visitNode leaves its children on that stack for this loop (see visitChildrenByDefault), instead of visiting
+	//  them in a nested call. So the default methods walk a tree of any depth, e.g. a chain of 100k binary operators,
+	//  in constant Java stack; only the overridden methods that call visitChildren themselves nest.
+	public <A, R> void visitChildren(int node, Visitor<A, R> v, A arg){
+		int base = _walkSize;
+		pushChildren(node);
+		try {
+			while (_walkSize > base){
+				int child = _walk[--_walkSize];
+				_dispatched = child;
+				_dispatchedTo = v;
+				_dispatchedArg = arg;
+				accept(child, v, arg);
+			}
+		} finally {
+			_walkSize = base;
+			_dispatched = NONE;
+		}
+	}
+
+	// The default Visitor.visitNode: if node is the one the loop in visitChildren just handed to v,
+	//  its children are pushed for that loop to visit next; otherwise they are visited now
+	<A, R> void visitChildrenByDefault(int node, Visitor<A, R> v, A arg){
+		if (node == _dispatched && v == _dispatchedTo && arg == _dispatchedArg){
+			_dispatched = NONE;
+			pushChildren(node);
+		} else {
+			visitChildren(node, v, arg);
+		}
+	}
+
+	// pushes the present children of node onto the walk's stack, last first, so they are visited in order
+	private void pushChildren(int node){
+		int first = _firstChild[node];
+		int count = _childCount[node];
+		if (_walkSize + count > _walk.length){
+			_walk = Arrays.copyOf(_walk, Math.max(_walk.length * 2, _walkSize + count));
+		}
+		for (int i = count - 1; i >= 0; i--){
+			int child = _children[first + i];
+			if (child != NONE){
+				_walk[_walkSize++] = child;
+			}
+		}
+	}
+
+	//building
+
+	public int add(NodeKind kind, int start, int end){
+		return addList(kind, start, end, _stackSize);
+	}
+
+	public int add(NodeKind kind, int start, int end, int a){
+		int mark = _stackSize;
+		push(a);
+		return addList(kind, start, end, mark);
+	}
+
+	public int add(NodeKind kind, int start, int end, int a, int b){
+		int mark = _stackSize;
+		push(a);
+		push(b);
+		return addList(kind, start, end, mark);
+	}
+
+	public int add(NodeKind kind, int start, int end, int a, int b, int c){
+		int mark = _stackSize;
+		push(a);
+		push(b);
+		push(c);
+		return addList(kind, start, end, mark);
+	}
+
+	public int add(NodeKind kind, int start, int end, int a, int b, int c, int d){
+		int mark = _stackSize;
+		push(a);
+		push(b);
+		push(c);
+		push(d);
+		return addList(kind, start, end, mark);
+	}
+
+	// current top of the scratch stack, to pass to addList or release later
+	public int mark(){
+		return _stackSize;
+	}
+
+	public void push(int child){
+		if (_stackSize == _stack.length){
+			_stack = Arrays.copyOf(_stack, _stackSize * 2);
+		}
+		_stack[_stackSize++] = child;
+	}
+
+	// Drops everything pushed since mark, e.g. the pieces of a construct abandoned after a syntax error
+	public void release(int mark){
+		_stackSize = mark;
+	}
+
+	// Adds a node whose children are everything pushed since mark, popping them
+	public int addList(NodeKind kind, int start, int end, int mark){
+		int count = _stackSize - mark;
+		if (_size == _kinds.length){
+			int capacity = _size * 2;
+			_kinds = Arrays.copyOf(_kinds, capacity);
+			_starts = Arrays.copyOf(_starts, capacity);
+			_ends = Arrays.copyOf(_ends, capacity);
+			_firstChild = Arrays.copyOf(_firstChild, capacity);
+			_childCount = Arrays.copyOf(_childCount, capacity);
+		}
+		if (_childrenSize + count > _children.length){
+			_children = Arrays.copyOf(_children, Math.max(_children.length * 2, _childrenSize + count));
+		}
+		System.arraycopy(_stack, mark, _children, _childrenSize, count);
+		_kinds[_size] = (byte)kind.ordinal();
+		_starts[_size] = start;
+		_ends[_size] = end;
+		_firstChild[_size] = _childrenSize;
+		_childCount[_size] = count;
+		_childrenSize += count;
+		_stackSize = mark;
+		return _size++;
+	}
+}
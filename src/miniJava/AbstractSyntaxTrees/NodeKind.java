@@ -0,0 +1,56 @@
+package miniJava.AbstractSyntaxTrees;
+
+// The kinds of AST nodes, with each kind's children in order. A child marked optional is AST.NONE when absent;
+//  a trailing '*' child is a list of any length. A node's span is its principal token, named after the '@'.
+public enum NodeKind {
+	//declarations
+	Program, // [(PackageDecl | ImportDecl | ClassDecl)*] @ whole input
+	PackageDecl, // [] @ package name
+	ImportDecl, // [] @ imported name, including any .*
+	ClassDecl, // [Modifiers, superclass type (optional), (FieldDecl | MethodDecl)*] @ class name
+	FieldDecl, // [Modifiers, Type, initializer (optional)] @ field name; fields declared together share Modifiers and Type
+	MethodDecl, // [Modifiers, Type, Parameters, thrown type (optional), Block] @ method name
+	Modifiers, // [Modifier*] @ the modifier keywords, empty if there are none
+	Modifier, // [] @ keyword
+	Parameters, // [Parameter*] @ '('
+	Parameter, // [Type] @ parameter name
+
+	//types
+	PrimitiveType, // [] @ keyword
+	VoidType, // [] @ 'void'
+	ClassType, // [type argument*] @ (qualified) class name
+	ArrayType, // [element Type] @ '[]'
+
+	//statements
+	Block, // [statement*] @ '{'
+	VarDeclStmt, // [Type, initializer (optional)] @ variable name
+	AssignStmt, // [target, value (optional, absent for ++ and --)] @ operator
+	ExprStmt, // [expression] @ ';'
+	ReturnStmt, // [value (optional)] @ 'return'
+	IfStmt, // [condition, then, else (optional)] @ 'if'
+	WhileStmt, // [condition, body] @ 'while'
+	DoWhileStmt, // [body, condition] @ 'do'
+	ForStmt, // [init (optional), condition (optional), update (optional), body] @ 'for'; a for-each loop has a ForEachVarDecl init
+	ForEachVarDecl, // [Type, iterated expression] @ variable name
+	ThrowStmt, // [expression] @ 'throw'
+	TryStmt, // [Block, catch Parameter (optional), catch Block (optional), finally Block (optional)] @ 'try'
+	BreakStmt, // [] @ 'break'
+	ContinueStmt, // [] @ 'continue'
+
+	//expressions
+	BinaryExpr, // [left, right] @ operator
+	UnaryExpr, // [operand] @ operator
+	PostfixExpr, // [operand] @ operator
+	TernaryExpr, // [condition, then, else] @ '?'
+	LiteralExpr, // [] @ literal
+	ArrayLiteralExpr, // [element*] @ '{'
+	NewObjectExpr, // [ClassType, argument*] @ 'new'
+	NewArrayExpr, // [element Type, dimension*] @ 'new'
+
+	//references
+	IdRef, // [] @ identifier
+	ThisRef, // [] @ 'this'
+	FieldRef, // [object] @ field name
+	IndexRef, // [array, index] @ '['
+	CallExpr, // [method reference, argument*] @ '('
+}
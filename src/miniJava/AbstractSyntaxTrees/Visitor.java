@@ -0,0 +1,199 @@
+package miniJava.AbstractSyntaxTrees;
+
+// Typed view of an AST: one method per NodeKind, each given the arena and the node's handle, so walking a tree creates no node objects.
+//  Every method defaults to the one for its group (declarations, types, statements, expressions), which defaults to visitNode,
+//  which visits the node's children in order and returns null. Override at whichever level is convenient.
+//
+// The default visitNode leaves the children to the walk that reached the node (see AST.visitChildren), so they are visited
+//  just after the method returns: an override that calls it (Visitor.super) and then does more does that before the
+//  children are visited. To act after the children, call ast.visitChildren instead; that nests a level of Java stack.
+public interface Visitor<ArgType, ResultType> {
+	default ResultType visitNode(AST ast, int node, ArgType arg){
+		ast.visitChildrenByDefault(node, this, arg);
+		return null;
+	}
+
+	// declarations: the program, classes, members and their parts
+	default ResultType visitDeclaration(AST ast, int node, ArgType arg){
+		return visitNode(ast, node, arg);
+	}
+
+	default ResultType visitProgram(AST ast, int node, ArgType arg){
+		return visitDeclaration(ast, node, arg);
+	}
+
+	default ResultType visitPackageDecl(AST ast, int node, ArgType arg){
+		return visitDeclaration(ast, node, arg);
+	}
+
+	default ResultType visitImportDecl(AST ast, int node, ArgType arg){
+		return visitDeclaration(ast, node, arg);
+	}
+
+	default ResultType visitClassDecl(AST ast, int node, ArgType arg){
+		return visitDeclaration(ast, node, arg);
+	}
+
+	default ResultType visitFieldDecl(AST ast, int node, ArgType arg){
+		return visitDeclaration(ast, node, arg);
+	}
+
+	default ResultType visitMethodDecl(AST ast, int node, ArgType arg){
+		return visitDeclaration(ast, node, arg);
+	}
+
+	default ResultType visitModifiers(AST ast, int node, ArgType arg){
+		return visitDeclaration(ast, node, arg);
+	}
+
+	default ResultType visitModifier(AST ast, int node, ArgType arg){
+		return visitDeclaration(ast, node, arg);
+	}
+
+	default ResultType visitParameters(AST ast, int node, ArgType arg){
+		return visitDeclaration(ast, node, arg);
+	}
+
+	default ResultType visitParameter(AST ast, int node, ArgType arg){
+		return visitDeclaration(ast, node, arg);
+	}
+
+	// types
+	default ResultType visitType(AST ast, int node, ArgType arg){
+		return visitNode(ast, node, arg);
+	}
+
+	default ResultType visitPrimitiveType(AST ast, int node, ArgType arg){
+		return visitType(ast, node, arg);
+	}
+
+	default ResultType visitVoidType(AST ast, int node, ArgType arg){
+		return visitType(ast, node, arg);
+	}
+
+	default ResultType visitClassType(AST ast, int node, ArgType arg){
+		return visitType(ast, node, arg);
+	}
+
+	default ResultType visitArrayType(AST ast, int node, ArgType arg){
+		return visitType(ast, node, arg);
+	}
+
+	// statements
+	default ResultType visitStatement(AST ast, int node, ArgType arg){
+		return visitNode(ast, node, arg);
+	}
+
+	default ResultType visitBlock(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitVarDeclStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitAssignStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitExprStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitReturnStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitIfStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitWhileStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitDoWhileStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitForStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitForEachVarDecl(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitThrowStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitTryStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitBreakStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	default ResultType visitContinueStmt(AST ast, int node, ArgType arg){
+		return visitStatement(ast, node, arg);
+	}
+
+	// expressions and references
+	default ResultType visitExpression(AST ast, int node, ArgType arg){
+		return visitNode(ast, node, arg);
+	}
+
+	default ResultType visitBinaryExpr(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitUnaryExpr(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitPostfixExpr(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitTernaryExpr(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitLiteralExpr(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitArrayLiteralExpr(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitNewObjectExpr(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitNewArrayExpr(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitIdRef(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitThisRef(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitFieldRef(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitIndexRef(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+
+	default ResultType visitCallExpr(AST ast, int node, ArgType arg){
+		return visitExpression(ast, node, arg);
+	}
+}
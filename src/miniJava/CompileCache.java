@@ -0,0 +1,231 @@
+package miniJava;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import miniJava.SyntacticAnalyzer.SourceBuffer;
+
+// On-disk cache of per-file compile results, so unchanged files are answered without scanning or parsing.
+//
+// Entries are content-addressed: the key is a SHA-256 of the compiler version, the dialect (Compiler.IS_MINI),
+//  the error limit and the source bytes, so a renamed or copied file still hits, and any change to the compiler misses.
+//  An entry holds the reported errors without their file name; they are relocated to the file being compiled on a hit.
+//
+// Any number of compilers, in this process or others, can share a directory:
+//  - entries are written to a temporary file and atomically renamed into place, so a reader never sees a partial entry
+//  - an entry that is missing, truncated or for a different key is treated as a miss
+//  - eviction removes the least recently used entries (hits refresh the modification time) once the directory
+//    grows past its size limit; deleting an entry another process is using just turns its next lookup into a miss
+//  - a temporary file left by a writer that died is deleted by eviction once it is TEMP_MAX_AGE old
+public class CompileCache {
+	private static final int MAGIC = 0x4d4a4343; //"MJCC"
+	private static final int FORMAT = 2;
+	private static final long TEMP_MAX_AGE = 60 * 60 * 1000; //ms after which a temporary file is taken as abandoned
+
+	private Path _dir;
+	private long _maxBytes;
+	private long _size = -1; //approximate size of the directory, -1 until first measured
+
+	private static final Map<Path,CompileCache> _open = new HashMap<>();
+
+	// The CompileCache of dir, shared by every Compiler in this process using that directory,
+	//  so that the directory's size is only measured once. The largest size asked for applies.
+	public static synchronized CompileCache open(File dir, long maxBytes) throws IOException {
+		Path path = dir.getCanonicalFile().toPath();
+		CompileCache cache = _open.get(path);
+		if (cache == null){
+			cache = new CompileCache(path.toFile(), maxBytes);
+			_open.put(path, cache);
+		}
+		synchronized (cache){
+			cache._maxBytes = Math.max(cache._maxBytes, maxBytes);
+		}
+		return cache;
+	}
+
+	public CompileCache(File dir, long maxBytes) throws IOException {
+		this._dir = dir.toPath();
+		this._maxBytes = maxBytes;
+		Files.createDirectories(_dir);
+	}
+
+	// Computes the cache key of source, reading all of it
+	public byte[] key(SourceBuffer source, int errorLimit) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e){
+			throw new IllegalStateException(e);
+		}
+		digest.update((Compiler.VERSION + "/" + Compiler.IS_MINI + "/" + errorLimit).getBytes(StandardCharsets.UTF_8));
+		//pull the whole input in, then hash it a chunk at a time
+		while (source.byteAt(source.available()) != -1){ }
+		byte[] chunk = new byte[1 << 16];
+		int length = source.available();
+		for (int offset = 0; offset < length; offset += chunk.length){
+			int n = Math.min(chunk.length, length - offset);
+			source.getBytes(offset, chunk, 0, n);
+			digest.update(chunk, 0, n);
+		}
+		return digest.digest();
+	}
+
+	// Reports the cached errors for key to reporter, located in file. Returns false (reporting nothing) on a miss.
+	public boolean lookup(byte[] key, String file, ErrorReporter reporter){
+		Path entry = entryPath(key);
+		List<CompilerError> errors = new ArrayList<>();
+		try {
+			byte[] bytes = Files.readAllBytes(entry);
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT){
+				return false;
+			}
+			byte[] stored = new byte[key.length];
+			in.readFully(stored);
+			if (!MessageDigest.isEqual(stored, key)){
+				return false;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++){
+				int length = in.readInt();
+				if (length < 0 || length > in.available()){
+					return false;
+				}
+				byte[] text = new byte[length];
+				in.readFully(text);
+				String message = new String(text, StandardCharsets.UTF_8);
+				int line = in.readInt();
+				int col = in.readInt();
+				int start = in.readInt();
+				int end = in.readInt();
+				errors.add(new CompilerError(message, file, line, col, start, end));
+			}
+		} catch (IOException e){
+			//missing (never written, or evicted) or unreadable: a miss either way
+			return false;
+		}
+		try {
+			Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+		} catch (IOException e){ }
+		for (CompilerError err : errors){
+			reporter.reportError(err);
+		}
+		return true;
+	}
+
+	// Records the errors reported for key, replacing any existing entry.
+	//  Messages are written as UTF-8 with an int length, as they can be longer than writeUTF allows (a long string literal).
+	public void store(byte[] key, List<CompilerError> errors) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(MAGIC);
+		out.writeInt(FORMAT);
+		out.write(key);
+		out.writeInt(errors.size());
+		for (CompilerError err : errors){
+			byte[] message = err.message.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(message.length);
+			out.write(message);
+			out.writeInt(err.line);
+			out.writeInt(err.col);
+			out.writeInt(err.start);
+			out.writeInt(err.end);
+		}
+		out.flush();
+
+		Path entry = entryPath(key);
+		Files.createDirectories(entry.getParent());
+		Path temp = Files.createTempFile(entry.getParent(), "tmp", null);
+		try {
+			Files.write(temp, bytes.toByteArray());
+			try {
+				Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e){
+				Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+		added(bytes.size());
+	}
+
+	private synchronized void added(long bytes) throws IOException {
+		if (_size < 0){
+			_size = measure();
+		} else {
+			_size += bytes;
+		}
+		if (_size > _maxBytes){
+			evict();
+		}
+	}
+
+	// Deletes least recently used entries until the directory is back under 90% of its limit.
+	//  Sizes are re-measured from disk, since other processes may have added or evicted entries.
+	private void evict() throws IOException {
+		List<Path> entries = new ArrayList<>();
+		try (Stream<Path> files = Files.walk(_dir)){
+			files.filter(Files::isRegularFile).forEach(entries::add);
+		}
+		long[] sizes = new long[entries.size()];
+		long[] times = new long[entries.size()];
+		Integer[] order = new Integer[entries.size()];
+		long total = 0;
+		for (int i = 0; i < entries.size(); i++){
+			order[i] = i;
+			try {
+				sizes[i] = Files.size(entries.get(i));
+				times[i] = Files.getLastModifiedTime(entries.get(i)).toMillis();
+			} catch (NoSuchFileException e){
+				//evicted by someone else in the meantime
+			}
+			total += sizes[i];
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(times[a], times[b]));
+		long target = _maxBytes / 10 * 9;
+		long abandoned = System.currentTimeMillis() - TEMP_MAX_AGE;
+		for (int i = 0; i < order.length && total > target; i++){
+			Path entry = entries.get(order[i]);
+			if (entry.getFileName().toString().startsWith("tmp") && times[order[i]] > abandoned){
+				continue; //being written
+			}
+			Files.deleteIfExists(entry);
+			total -= sizes[order[i]];
+		}
+		_size = total;
+	}
+
+	private long measure() throws IOException {
+		try (Stream<Path> files = Files.walk(_dir)){
+			return files.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+		}
+	}
+
+	// entries are spread over 256 subdirectories by the first byte of their key
+	private Path entryPath(byte[] key){
+		StringBuilder hex = new StringBuilder(key.length * 2);
+		for (byte b : key){
+			hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		return _dir.resolve(hex.substring(0, 2)).resolve(hex.toString());
+	}
+}
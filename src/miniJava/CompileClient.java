@@ -0,0 +1,69 @@
+package miniJava;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+// Thin front end for CompileServer: takes the same arguments as Compiler.main, and prints the same output and exits
+//  with the same code, but has the server do the compiling. Without a server listening, compiles in this process instead.
+//
+// usage: CompileClient [-socket path] <Compiler arguments>
+public class CompileClient {
+	public static void main(String[] args) throws IOException {
+		Path socket = CompileServer.DEFAULT_SOCKET;
+		if (args.length >= 2 && args[0].equals("-socket")){
+			socket = Path.of(args[1]);
+			String[] rest = new String[args.length - 2];
+			System.arraycopy(args, 2, rest, 0, rest.length);
+			args = rest;
+		}
+
+		SocketChannel server;
+		try {
+			server = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+		} catch (IOException e){
+			Compiler.main(args);
+			return;
+		}
+
+		int exitCode;
+		try (server){
+			DataOutputStream request = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(server)));
+			request.writeUTF(System.getProperty("user.dir"));
+			request.writeInt(args.length);
+			for (String arg : args){
+				request.writeUTF(arg);
+			}
+			request.flush();
+
+			DataInputStream frames = new DataInputStream(new BufferedInputStream(Channels.newInputStream(server)));
+			byte[] buffer = new byte[8192];
+			while (true){
+				byte tag = frames.readByte();
+				if (tag == CompileServer.EXIT){
+					exitCode = frames.readInt();
+					break;
+				}
+				PrintStream out = tag == CompileServer.ERR ? System.err : System.out;
+				int len = frames.readInt();
+				while (len > 0){
+					int n = frames.read(buffer, 0, Math.min(len, buffer.length));
+					if (n < 0){
+						throw new IOException("Compile server closed the connection");
+					}
+					out.write(buffer, 0, n);
+					len -= n;
+				}
+			}
+		}
+		System.out.flush();
+		System.exit(exitCode);
+	}
+}
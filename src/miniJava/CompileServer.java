@@ -0,0 +1,234 @@
+package miniJava;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import miniJava.Testing.CorpusGenerator;
+
+// Long-running compiler process, so that repeated invocations skip JVM startup and run on already compiled (JIT) code.
+//  CompileClient sends it a command line, which it runs as Compiler.main would, sending back the output and exit code.
+//
+// Protocol, over a Unix domain socket (DataOutputStream encoding):
+//  client: UTF working directory, int argument count, UTF arguments
+//  server: frames of byte tag, then for OUT and ERR an int length and that many bytes of output, for EXIT an int exit code (last)
+//
+// Each request runs on its own Compiler, with its own options, reporter and output, so concurrent clients never share state;
+//  only CompilerError.captureStackTraces (-debug) and caches of the same directory (see CompileCache.open) are process-wide.
+//
+// usage: CompileServer [-socket path] [-threads n] [-nowarmup] [-debug]
+//  -socket is where to listen (default: DEFAULT_SOCKET); a stale socket file left by a dead server is replaced
+//  -threads is how many requests are compiled at once (default: one per core); further clients wait
+//  -nowarmup starts listening immediately, instead of after compiling a generated file a few times
+//  -debug records the compiler's own stack trace for each error, for every request
+//
+// On SIGINT or SIGTERM it stops accepting, and finishes the requests it has accepted (for up to SHUTDOWN_WAIT_SECONDS)
+//  before exiting, so their clients still get all of their output and exit code.
+public class CompileServer {
+	public static final Path DEFAULT_SOCKET = Path.of(System.getProperty("java.io.tmpdir"),
+			"miniJava-" + System.getProperty("user.name") + ".sock");
+
+	static final byte OUT = 'O';
+	static final byte ERR = 'E';
+	static final byte EXIT = 'X';
+
+	private static final int WARMUP_BYTES = 1 << 20;
+	private static final int WARMUP_ROUNDS = 20;
+	private static final int SHUTDOWN_WAIT_SECONDS = 60; //longest the requests in progress are waited for on exit
+
+	public static void main(String[] args) throws IOException {
+		Path socket = DEFAULT_SOCKET;
+		int threads = Runtime.getRuntime().availableProcessors();
+		boolean warmup = true;
+		for (int i = 0; i < args.length; i++){
+			if (args[i].equals("-socket") && i + 1 < args.length){
+				socket = Path.of(args[++i]);
+			} else if (args[i].equals("-threads") && i + 1 < args.length){
+				threads = Math.max(1, Integer.parseInt(args[++i]));
+			} else if (args[i].equals("-nowarmup")){
+				warmup = false;
+			} else if (args[i].equals("-debug")){
+				CompilerError.captureStackTraces = true;
+			} else {
+				System.err.println("Unknown option " + args[i]);
+				System.exit(2);
+			}
+		}
+
+		if (warmup){
+			warmup();
+		}
+
+		ServerSocketChannel server = bind(socket);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		Path bound = socket;
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			//stop accepting, let the requests already accepted finish with their EXIT frame, then remove the socket file
+			try {
+				server.close();
+			} catch (IOException e){
+				//accept fails either way
+			}
+			pool.shutdown();
+			try {
+				pool.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS);
+			} catch (InterruptedException e){
+				//cut short; exit anyway
+			}
+			try {
+				Files.deleteIfExists(bound);
+			} catch (IOException e){
+				//nothing left to do on the way out
+			}
+		}));
+		System.out.println("Listening on " + socket);
+
+		while (true){
+			SocketChannel client;
+			try {
+				client = server.accept();
+			} catch (ClosedChannelException e){
+				return; //shutting down
+			}
+			try {
+				pool.execute(() -> serve(client));
+			} catch (RejectedExecutionException e){
+				client.close(); //accepted just as the pool shut down
+				return;
+			}
+		}
+	}
+
+	// Binds to socket, replacing the socket file if no server is listening on it
+	private static ServerSocketChannel bind(Path socket) throws IOException {
+		UnixDomainSocketAddress address = UnixDomainSocketAddress.of(socket);
+		if (Files.exists(socket)){
+			SocketChannel probe = null;
+			try {
+				probe = SocketChannel.open(address);
+			} catch (IOException e){
+				//no one is listening
+			}
+			if (probe != null){
+				probe.close();
+				throw new IOException("A server is already listening on " + socket);
+			}
+			Files.delete(socket);
+		}
+		ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+		server.bind(address);
+		return server;
+	}
+
+	// Compiles a generated file until the scanner and parser are JIT compiled, so the first clients do not pay for it
+	private static void warmup() throws IOException {
+		File f = File.createTempFile("miniJava-warmup", ".java");
+		try {
+			try (Writer out = new BufferedWriter(new FileWriter(f))){
+				new CorpusGenerator(520, "classes").generate(out, WARMUP_BYTES, false);
+			}
+			PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+			for (int i = 0; i < WARMUP_ROUNDS; i++){
+				new Compiler(null, discard).compile(f, new ErrorReporter());
+			}
+		} finally {
+			f.delete();
+		}
+	}
+
+	private static void serve(SocketChannel client){
+		try (client){
+			DataInputStream in = new DataInputStream(Channels.newInputStream(client));
+			DataOutputStream frames = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)));
+			File base = new File(in.readUTF());
+			String[] args = new String[in.readInt()];
+			for (int i = 0; i < args.length; i++){
+				args[i] = in.readUTF();
+			}
+
+			PrintStream out = new PrintStream(new BufferedOutputStream(new FrameOutputStream(frames, OUT)));
+			PrintStream err = new PrintStream(new FrameOutputStream(frames, ERR), true);
+			int exitCode = 0;
+			try {
+				new Compiler(base, out, err).run(args);
+			} catch (Compiler.UsageException e){
+				//as Compiler.main reports it
+				exitCode = 2;
+				out.flush();
+				err.println(e.getMessage());
+				err.println(Compiler.USAGE);
+			} catch (Throwable e){
+				//reported as an uncaught exception in Compiler.main would be
+				exitCode = 1;
+				StringWriter trace = new StringWriter();
+				e.printStackTrace(new PrintWriter(trace));
+				out.flush();
+				err.print("Exception in thread \"main\" " + trace);
+			}
+			out.flush();
+			err.flush();
+			frames.writeByte(EXIT);
+			frames.writeInt(exitCode);
+			frames.flush();
+		} catch (IOException e){
+			//the client went away; nothing to report it to
+		}
+	}
+
+	// Sends everything written to it as frames of one tag. A request's OUT and ERR streams share the connection, and the
+	//  Compiler can write to both from different threads, so each frame is written whole under the connection's lock.
+	private static class FrameOutputStream extends OutputStream {
+		private DataOutputStream _frames;
+		private byte _tag;
+
+		FrameOutputStream(DataOutputStream frames, byte tag){
+			this._frames = frames;
+			this._tag = tag;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] {(byte)b}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (len == 0){
+				return;
+			}
+			synchronized (_frames){
+				_frames.writeByte(_tag);
+				_frames.writeInt(len);
+				_frames.write(b, off, len);
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			synchronized (_frames){
+				_frames.flush();
+			}
+		}
+	}
+}
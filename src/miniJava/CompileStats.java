@@ -0,0 +1,148 @@
+package miniJava;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+// Where the time of compiling one file (or, for total, a run of them) went, as collected by Compiler -stats.
+//  Times are wall-clock nanoseconds of the compiling thread; allocation is that thread's, from ThreadMXBean,
+//  or -1 where the JVM does not count it.
+public class CompileStats {
+	public static final String[] FORMATS = {"table", "csv", "json"};
+
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+	private static final boolean COUNTS_ALLOCATION = THREADS instanceof com.sun.management.ThreadMXBean
+			&& ((com.sun.management.ThreadMXBean)THREADS).isThreadAllocatedMemorySupported()
+			&& ((com.sun.management.ThreadMXBean)THREADS).isThreadAllocatedMemoryEnabled();
+
+	public String file;
+	public long bytes;
+	public long tokens;
+	public long readNanos;
+	public long scanNanos;
+	public long parseNanos;
+	public int maxDepth; //deepest nesting the Parser recursed into (see Parser.maxDepth)
+	public long allocatedBytes = -1;
+	public int errors;
+	public boolean cached; //answered by the CompileCache, so not scanned or parsed
+
+	public CompileStats(String file){
+		this.file = file;
+	}
+
+	// bytes allocated so far by the current thread, or -1
+	static long allocatedByThisThread(){
+		return COUNTS_ALLOCATION ? ((com.sun.management.ThreadMXBean)THREADS).getCurrentThreadAllocatedBytes() : -1;
+	}
+
+	public long totalNanos(){
+		return readNanos + scanNanos + parseNanos;
+	}
+
+	public double bytesPerSecond(){
+		return perSecond(bytes);
+	}
+
+	public double tokensPerSecond(){
+		return perSecond(tokens);
+	}
+
+	private double perSecond(long count){
+		long nanos = totalNanos();
+		return nanos == 0 ? 0 : count * 1e9 / nanos;
+	}
+
+	// Sums of files: counts and times add up, the depth is the deepest of any file
+	public static CompileStats total(List<CompileStats> files){
+		CompileStats total = new CompileStats("total");
+		total.allocatedBytes = 0;
+		for (CompileStats f : files){
+			total.bytes += f.bytes;
+			total.tokens += f.tokens;
+			total.readNanos += f.readNanos;
+			total.scanNanos += f.scanNanos;
+			total.parseNanos += f.parseNanos;
+			total.maxDepth = Math.max(total.maxDepth, f.maxDepth);
+			total.allocatedBytes = f.allocatedBytes < 0 || total.allocatedBytes < 0 ? -1 : total.allocatedBytes + f.allocatedBytes;
+			total.errors += f.errors;
+		}
+		return total;
+	}
+
+	// Writes a row per file and one for the total, in format
+	public static void write(String format, List<CompileStats> files, Appendable out) throws IOException {
+		CompileStats total = total(files);
+		switch (format){
+			case "table":
+				out.append(String.format("%-32s %12s %10s %9s %9s %9s %9s %10s %6s %14s %7s%n",
+						"file", "bytes", "tokens", "read ms", "scan ms", "parse ms", "MB/s", "Ktok/s", "depth", "allocated", "errors"));
+				for (CompileStats f : files){
+					f.writeTableRow(out);
+				}
+				total.writeTableRow(out);
+				break;
+			case "csv":
+				out.append("file,bytes,tokens,read_ns,scan_ns,parse_ns,bytes_per_sec,tokens_per_sec,max_depth,allocated_bytes,errors,cached\n");
+				for (CompileStats f : files){
+					f.writeCsvRow(out);
+				}
+				total.writeCsvRow(out);
+				break;
+			case "json":
+				out.append("{\"files\":[");
+				for (int i = 0; i < files.size(); i++){
+					out.append(i == 0 ? "\n" : ",\n");
+					files.get(i).writeJson(out);
+				}
+				out.append("\n],\"total\":");
+				total.writeJson(out);
+				out.append("}\n");
+				break;
+			default:
+				throw new IllegalArgumentException("unknown stats format " + format);
+		}
+	}
+
+	private void writeTableRow(Appendable out) throws IOException {
+		out.append(String.format("%-32s %12d %10d %9.3f %9.3f %9.3f %9.1f %10.1f %6d %14d %7d%s%n",
+				file, bytes, tokens, readNanos / 1e6, scanNanos / 1e6, parseNanos / 1e6,
+				bytesPerSecond() / (1 << 20), tokensPerSecond() / 1000, maxDepth, allocatedBytes, errors, cached ? " (cached)" : ""));
+	}
+
+	private void writeCsvRow(Appendable out) throws IOException {
+		//quoted, as a file name may hold a comma
+		out.append('"').append(file.replace("\"", "\"\"")).append('"');
+		out.append(',').append(Long.toString(bytes)).append(',').append(Long.toString(tokens))
+				.append(',').append(Long.toString(readNanos)).append(',').append(Long.toString(scanNanos))
+				.append(',').append(Long.toString(parseNanos))
+				.append(',').append(Long.toString((long)bytesPerSecond())).append(',').append(Long.toString((long)tokensPerSecond()))
+				.append(',').append(Integer.toString(maxDepth)).append(',').append(Long.toString(allocatedBytes))
+				.append(',').append(Integer.toString(errors)).append(',').append(Boolean.toString(cached)).append('\n');
+	}
+
+	private void writeJson(Appendable out) throws IOException {
+		out.append("{\"file\":\"");
+		for (int i = 0; i < file.length(); i++){
+			char c = file.charAt(i);
+			if (c == '"' || c == '\\'){
+				out.append('\\').append(c);
+			} else if (c < 0x20){
+				out.append(String.format("\\u%04x", (int)c));
+			} else {
+				out.append(c);
+			}
+		}
+		out.append("\",\"bytes\":").append(Long.toString(bytes))
+				.append(",\"tokens\":").append(Long.toString(tokens))
+				.append(",\"readNanos\":").append(Long.toString(readNanos))
+				.append(",\"scanNanos\":").append(Long.toString(scanNanos))
+				.append(",\"parseNanos\":").append(Long.toString(parseNanos))
+				.append(",\"bytesPerSecond\":").append(Long.toString((long)bytesPerSecond()))
+				.append(",\"tokensPerSecond\":").append(Long.toString((long)tokensPerSecond()))
+				.append(",\"maxDepth\":").append(Integer.toString(maxDepth))
+				.append(",\"allocatedBytes\":").append(Long.toString(allocatedBytes))
+				.append(",\"errors\":").append(Integer.toString(errors))
+				.append(",\"cached\":").append(Boolean.toString(cached)).append('}');
+	}
+}
@@ -1,79 +1,489 @@
 package miniJava;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.InputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+import miniJava.Events.FileCompileEvent;
 import miniJava.SyntacticAnalyzer.Parser;
+import miniJava.SyntacticAnalyzer.ScanPipeline;
 import miniJava.SyntacticAnalyzer.Scanner;
+import miniJava.SyntacticAnalyzer.SourceBuffer;
+import miniJava.SyntacticAnalyzer.TokenFile;
 
 public class Compiler {
 
 	public static final boolean IS_MINI = true;
 
+	// bump whenever a change can alter the errors reported for some input, so cached results are not reused
+	public static final String VERSION = "pa1-11";
+
 	// Main function, the file to compile will be an argument.
-	public static void main(String[] args) throws FileNotFoundException{
-		// TODO: Instantiate the ErrorReporter object
+	//  usage: see USAGE; a command line that does not fit it exits with 2, printing what is wrong and USAGE
+	//  -j sets how many files of a directory are compiled concurrently (default: one per core)
+	//  -maxerrors stops reporting errors for a file after n of them (default: ErrorReporter.DEFAULT_ERROR_LIMIT)
+	//  -cache reuses the results of files compiled before, keyed by their contents (see CompileCache), up to -cachesize (default 256MB)
+	//  -debug records the compiler's own stack trace for each error and prints it with the error
+	//  -errors prints errors as text (default), jsonl (a JSON object per line) or sarif (see ErrorSink)
+	//  -errorfile writes the errors to a file instead, as they are reported; for a directory, that of every file, in order
+	//  -stats prints where the time went, per file and in total, as a table (default), csv or json (see CompileStats),
+	//   after the results; the argument after it is only taken as the format if it is one, or is not an existing path
+	//  -statsfile writes the statistics to a file instead
+	//  -emittokens scans instead of compiling, writing the tokens and scanner errors of a file to out (see TokenFile),
+	//   or for a directory, those of each file to out/<name>.tok
+	//  -tokens compiles files written by -emittokens (path is one, or a directory of them) without scanning,
+	//   with the errors their sources would have; -cache does not apply to them
+	//  -pipeline scans each file on a thread of its own while it is parsed (see ScanPipeline), with the same errors,
+	//   if there is more than one core and the file is at least ScanPipeline.MIN_SIZE;
+	//   -stats then counts scanning as parsing, and does not count what the scanning thread allocates
+	public static void main(String[] args) throws IOException{
+		for (String arg : args){
+			if (arg.equals("-debug")){
+				CompilerError.captureStackTraces = true;
+			}
+		}
+		try {
+			new Compiler(null, System.out, System.err).run(args);
+		} catch (UsageException e){
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+	}
+
+	public static final String USAGE = "usage: Compiler [-j workers] [-maxerrors n] [-cache dir [-cachesize megabytes]]"
+			+ " [-errors text|jsonl|sarif] [-errorfile file] [-stats [table|csv|json]] [-statsfile file]"
+			+ " [-emittokens out | -tokens] [-pipeline] [-debug] path";
 
+	// Thrown by run for a command line that does not fit USAGE
+	public static class UsageException extends IllegalArgumentException {
+		private static final long serialVersionUID = 1L;
 
-		// TODO: Check to make sure a file path is given in args
-		File f1 = new File(args[0]);
+		public UsageException(String message){
+			super(message);
+		}
+	}
+
+	// Settings of one invocation, so that several (see CompileServer) can run in one process without sharing any
+	private File _base; //directory relative paths are resolved against; null for the working directory
+	private PrintStream _out;
+	private PrintStream _err; //for warnings, as System.err is for Compiler.main
+	private int _errorLimit = ErrorReporter.DEFAULT_ERROR_LIMIT;
+	private CompileCache _cache;
+	private String _errorFormat = "text";
+	private String _statsFormat; //null unless collecting statistics
+	private boolean _tokenFiles; //whether the files compiled are token files
+	private boolean _pipeline; //whether files are scanned on a thread of their own
+
+	public Compiler(File base, PrintStream out){
+		this(base, out, System.err);
+	}
+
+	public Compiler(File base, PrintStream out, PrintStream err){
+		this._base = base;
+		this._out = out;
+		this._err = err;
+	}
+
+	// Runs one command line, as main does, printing to this Compiler's output (and warnings to its error stream).
+	//  -debug is left to the caller: whether stack traces are captured is a setting of the whole process.
+	public void run(String[] args) throws IOException {
+		int workers = Runtime.getRuntime().availableProcessors();
+		File cacheDir = null;
+		long cacheMegabytes = 256;
+		File errorFile = null;
+		File statsFile = null;
+		File emitTokens = null;
+		String path = null;
+		for (int i = 0; i < args.length; i++){
+			if ((args[i].equals("-j") || args[i].equals("--jobs")) && i + 1 < args.length){
+				workers = Math.max(1, (int)number(args[i], args[++i], Integer.MAX_VALUE));
+			} else if (args[i].equals("-maxerrors") && i + 1 < args.length){
+				_errorLimit = Math.max(1, (int)number(args[i], args[++i], Integer.MAX_VALUE));
+			} else if (args[i].equals("-cache") && i + 1 < args.length){
+				cacheDir = new File(args[++i]);
+			} else if (args[i].equals("-cachesize") && i + 1 < args.length){
+				cacheMegabytes = number(args[i], args[++i], Long.MAX_VALUE >> 20);
+			} else if (args[i].equals("-errors") && i + 1 < args.length){
+				_errorFormat = args[++i];
+			} else if (args[i].equals("-errorfile") && i + 1 < args.length){
+				errorFile = new File(args[++i]);
+			} else if (args[i].equals("-stats")){
+				_statsFormat = "table";
+				if (i + 1 < args.length && !args[i + 1].startsWith("-")){
+					String format = args[i + 1];
+					if (Arrays.asList(CompileStats.FORMATS).contains(format)){
+						_statsFormat = format;
+						i++;
+					} else if (!resolve(new File(format)).exists()){
+						//neither a format nor the path to compile
+						throw new UsageException("Unknown -stats format " + format + " (table, csv or json)");
+					}
+				}
+			} else if (args[i].equals("-statsfile") && i + 1 < args.length){
+				statsFile = new File(args[++i]);
+				if (_statsFormat == null){
+					_statsFormat = "table";
+				}
+			} else if (args[i].equals("-emittokens") && i + 1 < args.length){
+				emitTokens = new File(args[++i]);
+			} else if (args[i].equals("-tokens")){
+				_tokenFiles = true;
+			} else if (args[i].equals("-pipeline")){
+				_pipeline = true;
+			} else if (args[i].equals("-debug")){
+				//see main
+			} else {
+				path = args[i];
+			}
+		}
+
+		if (cacheDir != null){
+			_cache = CompileCache.open(resolve(cacheDir), cacheMegabytes << 20);
+		}
+
+		if (path == null){
+			throw new UsageException("No path to compile");
+		}
+		File f1 = new File(path);
 		File[] files;
 		boolean any_fail = false;
-		if (f1.isDirectory()){
-			files = f1.listFiles();
+		if (resolve(f1).isDirectory()){
+			//listed through the resolved directory, but named as given, like the files of a local directory would be
+			File[] listed = resolve(f1).listFiles();
+			files = new File[listed.length];
+			for (int i = 0; i < listed.length; i++){
+				files[i] = new File(f1, listed[i].getName());
+			}
 		} else {
 			File[] files2 = {f1};
 			files = files2;
 		}
 
+		if (emitTokens != null){
+			emitTokens(files, resolve(f1).isDirectory(), emitTokens, workers);
+			return;
+		}
 
-		for (File f : files) {
-			if (files.length > 1){
-				System.out.println("Compiling File: " + f.toPath().getFileName());
-			}
-			ErrorReporter reporter = new ErrorReporter();
-
-			// TODO: Create the inputStream using new FileInputStream
-			InputStream inputStream = new FileInputStream(f);
-			
-			// TODO: Instantiate the scanner with the input stream and error object
-			Scanner scan = new Scanner(inputStream,reporter);
-			
-			// TODO: Instantiate the parser with the scanner and error object
-			Parser parser = new Parser(scan, reporter);
-			
-			// TODO: Call the parser's parse function
-			parser.parse();
-			
-			// TODO: Check if any errors exist, if so, println("Error")
-			//  then output the errors
+		List<CompileStats> stats = _statsFormat == null ? null : new ArrayList<>(files.length);
+		ErrorSink sink = errorFile == null ? null
+				: ErrorSink.open(_errorFormat, new FileWriter(resolve(errorFile), StandardCharsets.UTF_8), true);
+		try {
 			if (files.length == 1){
+				ErrorReporter reporter = newReporter();
+				if (sink != null){
+					//only held for the cache
+					reporter.setSink(sink, _cache != null);
+				}
+				CompileStats fileStats = stats == null ? null : new CompileStats(files[0].getPath());
+				compile(files[0], reporter, fileStats);
+				if (stats != null){
+					stats.add(fileStats);
+				}
 				if (reporter.hasErrors()){
-					System.out.println("Error");
-					reporter.outputErrors(true);
+					_out.println("Error");
+					if (sink == null){
+						ErrorSink out = ErrorSink.open(_errorFormat, new OutputStreamWriter(_out), true);
+						reporter.outputErrors(out);
+						out.finish();
+					}
 				} else {
-					System.out.println("Success");
+					_out.println("Success");
+				}
+			} else {
+				any_fail = compileBatch(files, workers, sink, stats);
+			}
+		} finally {
+			if (sink != null){
+				sink.close();
+			}
+		}
+
+		if (!any_fail){
+			_out.println("All tests passed");
+		}
+
+		if (stats != null){
+			if (statsFile == null){
+				CompileStats.write(_statsFormat, stats, _out);
+			} else {
+				try (Writer out = new BufferedWriter(new FileWriter(resolve(statsFile), StandardCharsets.UTF_8))){
+					CompileStats.write(_statsFormat, stats, out);
+				}
+			}
+		}
+	}
+
+	// value as the number option takes, at most max, or a UsageException
+	private static long number(String option, String value, long max){
+		try {
+			long n = Long.parseLong(value);
+			if (n <= max){
+				return n;
+			}
+		} catch (NumberFormatException e){
+			//reported below
+		}
+		throw new UsageException(option + " takes a number up to " + max + ", not " + value);
+	}
+
+	private File resolve(File f){
+		return _base == null || f.isAbsolute() ? f : new File(_base, f.getPath());
+	}
+
+	private ErrorReporter newReporter(){
+		ErrorReporter reporter = new ErrorReporter();
+		reporter.setErrorLimit(_errorLimit);
+		return reporter;
+	}
+
+	// Scans and parses a single file with the default settings, reporting any errors to reporter
+	public static void compileFile(File f, ErrorReporter reporter) throws IOException {
+		new Compiler(null, System.out).compile(f, reporter);
+	}
+
+	// Scans and parses a single file, reporting any errors to reporter.
+	//  With a cache, a file whose contents were compiled before is answered from the cache instead.
+	public void compile(File f, ErrorReporter reporter) throws IOException {
+		compile(f, reporter, null);
+	}
+
+	// As compile, recording into stats (if not null) where the time went, with the same results as without it.
+	//  The whole file is read first and timed apart; scanning is timed by the Scanner as the Parser pulls tokens
+	//  (see Scanner.timeScanning), so scanner and syntax errors interleave as they always do, and the rest is parsing.
+	public void compile(File f, ErrorReporter reporter, CompileStats stats) throws IOException {
+		FileCompileEvent event = new FileCompileEvent();
+		event.begin();
+		String outcome = FileCompileEvent.FAILED;
+		try {
+			outcome = compileSource(f, reporter, stats) ? FileCompileEvent.CACHED
+					: reporter.hasErrors() ? FileCompileEvent.ERROR : FileCompileEvent.SUCCESS;
+		} finally {
+			event.end();
+			if (event.shouldCommit()){
+				event.path = f.getPath();
+				event.bytes = resolve(f).length();
+				event.outcome = outcome;
+				event.errors = reporter.errorCount();
+				event.commit();
+			}
+		}
+	}
+
+	// Returns whether the result came from the cache
+	private boolean compileSource(File f, ErrorReporter reporter, CompileStats stats) throws IOException {
+		if (_tokenFiles){
+			compileTokens(f, reporter, stats);
+			return false;
+		}
+		long allocated = stats == null ? 0 : CompileStats.allocatedByThisThread();
+		long time = stats == null ? 0 : System.nanoTime();
+		// block-buffered for small files, memory-mapped for large ones
+		try (SourceBuffer source = SourceBuffer.open(resolve(f))){
+			source.setName(f.getPath());
+			byte[] key = null;
+			if (_cache != null){
+				key = _cache.key(source, _errorLimit);
+				if (_cache.lookup(key, source.getName(), reporter)){
+					if (stats != null){
+						stats.cached = true;
+						stats.bytes = source.readAll();
+						stats.readNanos = System.nanoTime() - time;
+						finish(stats, reporter, allocated);
+					}
+					return true;
 				}
+			}
+			if (_pipeline && ScanPipeline.worthwhile(resolve(f).length())){
+				compilePipelined(source, reporter, stats, time, allocated);
+			} else if (stats == null){
+				Parser parser = new Parser(new Scanner(source,reporter), reporter);
+				parser.parse();
 			} else {
-				boolean shouldFail = f.getName().contains("fail");
+				Scanner scanner = new Scanner(source,reporter);
+				stats.bytes = source.readAll();
+				long read = System.nanoTime();
+				scanner.timeScanning();
+				Parser parser = new Parser(scanner, reporter);
+				parser.parse();
+				stats.readNanos = read - time;
+				stats.scanNanos = scanner.scanNanos();
+				stats.parseNanos = System.nanoTime() - read - stats.scanNanos;
+				stats.tokens = scanner.tokensScanned();
+				stats.maxDepth = parser.maxDepth();
+				finish(stats, reporter, allocated);
+			}
+			if (_cache != null){
+				try {
+					_cache.store(key, reporter.getErrors());
+				} catch (IOException | UncheckedIOException e){
+					//the result stands; it just is not reused
+					_out.flush(); //after what was printed before it
+					_err.println("Could not cache the result of " + f.getPath() + ": " + e);
+				}
+			}
+			return false;
+		}
+	}
+
+	// Parses source while a ScanPipeline scans it. Reading the file is timed apart; scanning is counted as parsing.
+	private void compilePipelined(SourceBuffer source, ErrorReporter reporter, CompileStats stats, long time, long allocated)
+			throws IOException {
+		try (ScanPipeline pipeline = ScanPipeline.start(source, reporter)){
+			long read = stats == null ? 0 : System.nanoTime();
+			Parser parser = new Parser(pipeline.cursor(), reporter);
+			parser.parse();
+			if (stats != null){
+				stats.bytes = source.available();
+				stats.readNanos = read - time;
+				stats.parseNanos = System.nanoTime() - read;
+				stats.tokens = pipeline.tokenCount();
+				stats.maxDepth = parser.maxDepth();
+				finish(stats, reporter, allocated);
+			}
+		}
+	}
+
+	// Parses a token file, as compileSource does its source. Reading the file is counted as parsing.
+	private void compileTokens(File f, ErrorReporter reporter, CompileStats stats) throws IOException {
+		long allocated = stats == null ? 0 : CompileStats.allocatedByThisThread();
+		long time = stats == null ? 0 : System.nanoTime();
+		TokenFile tokens = TokenFile.open(resolve(f), reporter);
+		Parser parser = new Parser(tokens.cursor(), reporter);
+		try {
+			parser.parse();
+		} catch (UncheckedIOException e){
+			throw e.getCause();
+		}
+		if (stats != null){
+			stats.parseNanos = System.nanoTime() - time;
+			stats.bytes = tokens.available();
+			stats.tokens = tokens.tokenCount();
+			stats.maxDepth = parser.maxDepth();
+			finish(stats, reporter, allocated);
+		}
+	}
+
+	// Scans each file to a token file, on a pool of the given size: to out for a single file, or into the directory out
+	private void emitTokens(File[] files, boolean directory, File out, int workers) throws IOException {
+		if (directory){
+			resolve(out).mkdirs();
+		}
+		ForkJoinPool pool = new ForkJoinPool(workers);
+		try {
+			List<ForkJoinTask<?>> results = new ArrayList<>(files.length);
+			for (File f : files){
+				File to = directory ? new File(out, f.getName() + TokenFile.EXTENSION) : out;
+				results.add(pool.submit(() -> {
+					try {
+						emitTokens(f, to);
+					} catch (IOException e){
+						throw new UncheckedIOException(e);
+					}
+				}));
+			}
+			for (ForkJoinTask<?> result : results){
+				try {
+					result.join();
+				} catch (UncheckedIOException e){
+					throw e.getCause();
+				} catch (CompletionException e){
+					if (e.getCause() instanceof UncheckedIOException){
+						throw ((UncheckedIOException)e.getCause()).getCause();
+					}
+					throw e;
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private void emitTokens(File f, File to) throws IOException {
+		try (SourceBuffer source = SourceBuffer.open(resolve(f));
+				OutputStream out = new FileOutputStream(resolve(to))){
+			source.setName(f.getPath());
+			TokenFile.write(source, out);
+		}
+	}
+
+	private static void finish(CompileStats stats, ErrorReporter reporter, long allocated){
+		stats.errors = reporter.errorCount();
+		long now = CompileStats.allocatedByThisThread();
+		stats.allocatedBytes = allocated < 0 || now < 0 ? -1 : now - allocated;
+	}
+
+	// Compiles every file on a pool of the given size, each with its own ErrorReporter.
+	//  Per-file output is printed, and errors written to sink (if any), in input order, so they are the same no matter how the files are scheduled.
+	//  Returns whether any file's result did not match the expectation in its name.
+	//  (Testing.ConformanceRunner checks a corpus the same way, reporting each file's result and time, and JUnit XML.)
+	private boolean compileBatch(File[] files, int workers, ErrorSink sink, List<CompileStats> stats) throws IOException {
+		ForkJoinPool pool = new ForkJoinPool(workers);
+		try {
+			List<ForkJoinTask<ErrorReporter>> results = new ArrayList<>(files.length);
+			for (File f : files){
+				CompileStats fileStats = stats == null ? null : new CompileStats(f.getPath());
+				if (stats != null){
+					stats.add(fileStats);
+				}
+				results.add(pool.submit(() -> compileBatchFile(f, fileStats)));
+			}
+			boolean any_fail = false;
+			StringBuilder out = new StringBuilder();
+			for (int i = 0; i < files.length; i++){
+				ErrorReporter reporter;
+				try {
+					reporter = results.get(i).join();
+				} catch (UncheckedIOException e){
+					throw e.getCause();
+				} catch (CompletionException e){
+					if (e.getCause() instanceof UncheckedIOException){
+						throw ((UncheckedIOException)e.getCause()).getCause();
+					}
+					throw e;
+				}
+				out.setLength(0);
+				out.append("Compiling File: ").append(files[i].toPath().getFileName()).append(System.lineSeparator());
+				boolean shouldFail = files[i].getName().contains("fail");
 				if (shouldFail != reporter.hasErrors()){
+					out.append(MISMATCH).append(System.lineSeparator());
 					any_fail = true;
-					// System.out.println(shouldFail);
-					// System.out.println(reporter.hasErrors());
-					// reporter.outputErrors(true);
-					System.out.println("Compiler mismatch: incorrect result for file");
+				}
+				out.append("---------------------------").append(System.lineSeparator());
+				_out.print(out);
+				if (sink != null){
+					reporter.outputErrors(sink);
 				}
 			}
-			if (files.length > 1){
-				System.out.println("---------------------------");
-			}
+			return any_fail;
+		} finally {
+			pool.shutdown();
 		}
-		
-		if (!any_fail){
-			System.out.println("All tests passed");
+	}
+
+	private static final String MISMATCH = "Compiler mismatch: incorrect result for file";
+
+	private ErrorReporter compileBatchFile(File f, CompileStats stats){
+		ErrorReporter reporter = newReporter();
+		try {
+			compile(f, reporter, stats);
+		} catch (IOException e){
+			throw new UncheckedIOException(e);
 		}
-		// TODO: If there are no errors, println("Success")
+		return reporter;
 	}
 }
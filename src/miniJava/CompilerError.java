@@ -1,24 +1,42 @@
 package miniJava;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 public class CompilerError extends Error {
+    // Capturing the Java stack trace of every error is expensive, and only useful when debugging the compiler itself,
+    //  so it is off unless enabled here or with -DminiJava.debug=true. toString(true) prints it when it was captured.
+    public static boolean captureStackTraces = Boolean.getBoolean("miniJava.debug");
+
     public String message;
     public String file;
     public int line;
+    public int col = -1; //-1 if unknown
+    public int start = -1, end = -1; //offsets of the offending source span, -1 if unknown
     private StackTraceElement[] trace;
 
+    // Locates the error by the Java code that raised it; without stack capture, the location is unknown
     public CompilerError(String message){
+        super(message, null, false, captureStackTraces);
         this.message = message;
-        trace = this.getStackTrace();
-        this.line = trace[0].getLineNumber();
-        this.file = trace[0].getFileName();
+        if (captureStackTraces){
+            trace = this.getStackTrace();
+            this.line = trace[0].getLineNumber();
+            this.file = trace[0].getFileName();
+        }
     }
     public CompilerError(String message, String file, int line){
+        super(message, null, false, captureStackTraces);
         this.message = message;
         this.file = file;
         this.line = line;
+        if (captureStackTraces){
+            trace = this.getStackTrace();
+        }
+    }
+    // Error in the source span [start,end) of file, which starts at line:col
+    public CompilerError(String message, String file, int line, int col, int start, int end){
+        this(message, file, line);
+        this.col = col;
+        this.start = start;
+        this.end = end;
     }
 
     public String toString(){
@@ -26,12 +44,27 @@ public class CompilerError extends Error {
     }
 
     public String toString(boolean printStack){
-        String out = this.file + ":" + this.line + ":: " + this.message;
-        if (printStack){
+        StringBuilder out = new StringBuilder();
+        appendTo(out, printStack);
+        return out.toString();
+    }
+
+    // Appends toString(printStack) to out, without building a String per error
+    public void appendTo(StringBuilder out, boolean printStack){
+        out.append(this.file).append(':').append(this.line);
+        if (this.col >= 0){
+            out.append(':').append(this.col);
+        }
+        out.append(":: ").append(this.message);
+        if (printStack && trace != null){
             for (StackTraceElement e : trace){
-                out += "\n" + e;
+                out.append('\n').append(e);
             }
         }
-        return out;
     }
-}
\ No newline at end of file
+
+    // the compiler's stack trace when the error was created, or null if it was not captured
+    StackTraceElement[] capturedTrace(){
+        return trace;
+    }
+}
@@ -1,28 +1,80 @@
 package miniJava;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
+
+import miniJava.Events.CompilerErrorEvent;
 
 // TODO: Note this class lacks a lot of things.
 //  First of all, errors are simple strings,
 //  perhaps it may be worthwhile to augment this reporter
 //  with requiring line numbers.
 public class ErrorReporter {
+	public static final int DEFAULT_ERROR_LIMIT = 100;
+
 	private List<CompilerError> _errorQueue;
+	private int _errorLimit = DEFAULT_ERROR_LIMIT;
+	private int _errorCount = 0;
+	private ErrorSink _sink; //null unless errors are streamed
+	private boolean _keep = true;
 	
 	public ErrorReporter() {
 		this._errorQueue = new ArrayList<CompilerError>();
 	}
+
+	// Streams each error to sink as it is reported; unless keep, the errors are then not held here,
+	//  and getErrors and outputErrors only see those reported before.
+	public void setSink(ErrorSink sink, boolean keep) {
+		this._sink = sink;
+		this._keep = keep;
+	}
+
+	// Errors past the limit are dropped, and the Parser stops once it is reached, so pathological files end early
+	public void setErrorLimit(int limit) {
+		this._errorLimit = limit;
+	}
+
+	public boolean limitReached() {
+		return _errorCount >= _errorLimit;
+	}
 	
+	// number of errors reported, up to the limit, whether held or not
+	public int errorCount() {
+		return _errorCount;
+	}
+
 	public boolean hasErrors() {
 		// TODO: Check if errorQueue is non-empty
-		return !_errorQueue.isEmpty();
+		return _errorCount > 0;
+	}
+	
+	public List<CompilerError> getErrors() {
+		return Collections.unmodifiableList(_errorQueue);
 	}
 	
 	public void outputErrors(boolean stackTrace) {
-		// TODO: output all errors in the errorQueue
+		outputErrors(System.out, stackTrace);
+	}
+
+	public void outputErrors(PrintStream out, boolean stackTrace) {
+		try {
+			TextErrorSink sink = new TextErrorSink(new OutputStreamWriter(out), stackTrace);
+			outputErrors(sink);
+			sink.finish();
+		} catch (IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// Writes every error held to sink
+	public void outputErrors(ErrorSink sink) throws IOException {
 		for (CompilerError err : _errorQueue){
-			System.out.println(err.toString(stackTrace));
+			sink.write(err);
 		}
 	}
 
@@ -31,6 +83,27 @@ public class ErrorReporter {
 	}
 	
 	public void reportError(CompilerError e) {
-		_errorQueue.add(e);
+		if (limitReached()){
+			return;
+		}
+		CompilerErrorEvent event = new CompilerErrorEvent();
+		if (event.shouldCommit()){
+			event.file = e.file;
+			event.line = e.line;
+			event.col = e.col;
+			event.message = e.message;
+			event.commit();
+		}
+		_errorCount++;
+		if (_keep){
+			_errorQueue.add(e);
+		}
+		if (_sink != null){
+			try {
+				_sink.write(e);
+			} catch (IOException io){
+				throw new UncheckedIOException(io);
+			}
+		}
 	}
 }
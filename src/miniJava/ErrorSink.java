@@ -0,0 +1,97 @@
+package miniJava;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+// Destination for reported errors, in one of the FORMATS, written through a single buffered writer as they arrive,
+//  so a sink streaming to a file never holds more than its buffer.
+//  Every error of a run goes to one sink: call write for each, then close (or finish, to leave the underlying writer open).
+public abstract class ErrorSink implements AutoCloseable {
+	public static final String[] FORMATS = {"text", "jsonl", "sarif"};
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	protected Writer _out;
+	protected boolean _stackTrace;
+	private boolean _finished;
+
+	protected ErrorSink(Writer out, boolean stackTrace){
+		this._out = new BufferedWriter(out, BUFFER_SIZE);
+		this._stackTrace = stackTrace;
+	}
+
+	// A sink writing format to out; stackTrace includes the compiler's stack trace of errors that captured one
+	public static ErrorSink open(String format, Writer out, boolean stackTrace) throws IOException {
+		switch (format){
+			case "text": return new TextErrorSink(out, stackTrace);
+			case "jsonl": return new JsonLinesErrorSink(out, stackTrace);
+			case "sarif": return new SarifErrorSink(out, stackTrace);
+			default: throw new IllegalArgumentException("unknown error format " + format);
+		}
+	}
+
+	public abstract void write(CompilerError err) throws IOException;
+
+	public void flush() throws IOException {
+		_out.flush();
+	}
+
+	// Completes the output (e.g. closes the SARIF document) and flushes it, leaving the underlying writer open
+	public void finish() throws IOException {
+		if (!_finished){
+			_finished = true;
+			end();
+		}
+		_out.flush();
+	}
+
+	// writes whatever has to follow the last error
+	protected void end() throws IOException {
+	}
+
+	@Override
+	public void close() throws IOException {
+		finish();
+		_out.close();
+	}
+
+	// Writes s as a JSON string literal
+	protected void writeJson(CharSequence s) throws IOException {
+		_out.write('"');
+		int n = s.length();
+		for (int i = 0; i < n; i++){
+			char c = s.charAt(i);
+			switch (c){
+				case '"': _out.write("\\\""); break;
+				case '\\': _out.write("\\\\"); break;
+				case '\n': _out.write("\\n"); break;
+				case '\r': _out.write("\\r"); break;
+				case '\t': _out.write("\\t"); break;
+				default:
+					if (c < 0x20 || c >= 0x7f){ //non-ASCII escaped too, so the output reads the same in any charset
+						_out.write("\\u");
+						for (int shift = 12; shift >= 0; shift -= 4){
+							_out.write(Character.forDigit((c >> shift) & 0xf, 16));
+						}
+					} else {
+						_out.write(c);
+					}
+			}
+		}
+		_out.write('"');
+	}
+
+	// Writes the error's captured stack trace as a JSON array of frames
+	protected void writeJsonTrace(CompilerError err) throws IOException {
+		StackTraceElement[] trace = err.capturedTrace();
+		_out.write('[');
+		for (int i = 0; i < trace.length; i++){
+			if (i > 0){
+				_out.write(',');
+			}
+			writeJson(trace[i].toString());
+		}
+		_out.write(']');
+	}
+}
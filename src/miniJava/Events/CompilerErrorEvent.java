@@ -0,0 +1,25 @@
+package miniJava.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// An error reported through ErrorReporter (and not dropped by its limit); the stack trace shows what reported it
+@Name("miniJava.CompilerError")
+@Label("Compiler Error")
+@Category("miniJava")
+@Description("A CompilerError reported for the source being compiled")
+public class CompilerErrorEvent extends jdk.jfr.Event {
+	@Label("File")
+	public String file;
+
+	@Label("Line")
+	public int line;
+
+	@Label("Column")
+	public int col;
+
+	@Label("Message")
+	public String message;
+}
@@ -0,0 +1,33 @@
+package miniJava.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// One file compiled by Compiler.compile, from opening it to the end of parsing (or a CompileCache hit)
+@Name("miniJava.FileCompile")
+@Label("File Compile")
+@Category("miniJava")
+@Description("A source file opened, scanned and parsed")
+public class FileCompileEvent extends jdk.jfr.Event {
+	public static final String SUCCESS = "success";
+	public static final String ERROR = "error";
+	public static final String CACHED = "cached";
+	public static final String FAILED = "failed"; //the compiler threw
+
+	@Label("Path")
+	public String path;
+
+	@Label("Size")
+	@DataAmount(DataAmount.BYTES)
+	public long bytes;
+
+	@Label("Outcome")
+	@Description("success, error (errors were reported), cached (answered by the CompileCache) or failed (an exception was thrown)")
+	public String outcome;
+
+	@Label("Errors")
+	public int errors;
+}
@@ -0,0 +1,34 @@
+package miniJava.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// A phase of Parser.parse: the whole program (PROGRAM), or one class declaration (CLASS) within it
+@Name("miniJava.ParsePhase")
+@Label("Parse Phase")
+@Category("miniJava")
+@Description("The parse of a whole file, or of one class declaration in it")
+@StackTrace(false)
+public class ParsePhaseEvent extends jdk.jfr.Event {
+	public static final String PROGRAM = "program";
+	public static final String CLASS = "class";
+
+	@Label("Source")
+	public String source;
+
+	@Label("Phase")
+	public String phase;
+
+	@Label("Name")
+	@Description("Name of the class parsed, if any")
+	public String name;
+
+	@Label("Start Offset")
+	public long startOffset;
+
+	@Label("End Offset")
+	public long endOffset;
+}
@@ -0,0 +1,30 @@
+package miniJava.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// A run of up to Scanner.EVENT_BATCH consecutive tokens scanned from one file; an event per token would cost more than scanning it
+@Name("miniJava.ScanBatch")
+@Label("Scan Batch")
+@Category("miniJava")
+@Description("A batch of consecutive tokens scanned")
+@StackTrace(false)
+public class ScanBatchEvent extends jdk.jfr.Event {
+	@Label("Source")
+	public String source;
+
+	@Label("Tokens")
+	public int tokens;
+
+	@Label("Size")
+	@Description("Bytes of source the tokens, and the whitespace and comments between them, span")
+	@DataAmount(DataAmount.BYTES)
+	public long bytes;
+
+	@Label("Start Offset")
+	public long startOffset;
+}
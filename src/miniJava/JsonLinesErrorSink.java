@@ -0,0 +1,37 @@
+package miniJava;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// One JSON object per error and line, with the fields of CompilerError; unknown columns and offsets are omitted:
+//  {"file":"A.java","line":3,"col":13,"start":40,"end":41,"message":"...","stack":["..."]}
+public class JsonLinesErrorSink extends ErrorSink {
+	public JsonLinesErrorSink(Writer out, boolean stackTrace){
+		super(out, stackTrace);
+	}
+
+	@Override
+	public void write(CompilerError err) throws IOException {
+		_out.write("{\"file\":");
+		writeJson(String.valueOf(err.file));
+		_out.write(",\"line\":");
+		_out.write(Integer.toString(err.line));
+		if (err.col >= 0){
+			_out.write(",\"col\":");
+			_out.write(Integer.toString(err.col));
+		}
+		if (err.start >= 0){
+			_out.write(",\"start\":");
+			_out.write(Integer.toString(err.start));
+			_out.write(",\"end\":");
+			_out.write(Integer.toString(err.end));
+		}
+		_out.write(",\"message\":");
+		writeJson(err.message);
+		if (_stackTrace && err.capturedTrace() != null){
+			_out.write(",\"stack\":");
+			writeJsonTrace(err);
+		}
+		_out.write("}\n");
+	}
+}
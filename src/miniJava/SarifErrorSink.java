@@ -0,0 +1,53 @@
+package miniJava;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// A SARIF 2.1.0 log with one run, each error a result. The document is opened when the sink is created
+//  and closed by finish, so results stream out as they are reported.
+//  Offsets are bytes of the source file, so regions use byteOffset/byteLength rather than charOffset.
+public class SarifErrorSink extends ErrorSink {
+	private boolean _first = true;
+
+	public SarifErrorSink(Writer out, boolean stackTrace) throws IOException {
+		super(out, stackTrace);
+		_out.write("{\"version\":\"2.1.0\",\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\",\"runs\":[{\"tool\":{\"driver\":{\"name\":\"miniJava\",\"version\":");
+		writeJson(Compiler.VERSION);
+		_out.write("}},\"results\":[");
+	}
+
+	@Override
+	public void write(CompilerError err) throws IOException {
+		_out.write(_first ? "\n" : ",\n");
+		_first = false;
+		_out.write("{\"level\":\"error\",\"message\":{\"text\":");
+		writeJson(err.message);
+		_out.write("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":");
+		writeJson(String.valueOf(err.file));
+		_out.write("},\"region\":{\"startLine\":");
+		_out.write(Integer.toString(Math.max(err.line, 1)));
+		if (err.col >= 0){
+			//SARIF columns start at 1; the very first character of a file is reported at column 0
+			_out.write(",\"startColumn\":");
+			_out.write(Integer.toString(Math.max(err.col, 1)));
+		}
+		if (err.start >= 0){
+			_out.write(",\"byteOffset\":");
+			_out.write(Integer.toString(err.start));
+			_out.write(",\"byteLength\":");
+			_out.write(Integer.toString(err.end - err.start));
+		}
+		_out.write("}}}]");
+		if (_stackTrace && err.capturedTrace() != null){
+			_out.write(",\"properties\":{\"stack\":");
+			writeJsonTrace(err);
+			_out.write('}');
+		}
+		_out.write('}');
+	}
+
+	@Override
+	protected void end() throws IOException {
+		_out.write("\n]}]}\n");
+	}
+}
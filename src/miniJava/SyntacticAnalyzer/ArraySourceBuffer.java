@@ -0,0 +1,60 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.util.Arrays;
+
+// Source that is already in memory, e.g. an editor's copy of a file
+public class ArraySourceBuffer extends SourceBuffer {
+	private byte[] _bytes;
+	private int _length;
+
+	public ArraySourceBuffer(byte[] bytes) {
+		this(bytes, bytes.length);
+	}
+
+	public ArraySourceBuffer(byte[] bytes, int length) {
+		this._bytes = bytes;
+		this._length = length;
+	}
+
+	@Override
+	public int byteAt(int offset){
+		return offset < _length ? _bytes[offset] & 0xff : -1;
+	}
+
+	@Override
+	public int indexOfOrNonAscii(int from, byte a, byte b){
+		int i = ByteSearch.indexOfOrNonAscii(_bytes, from, _length, a, b);
+		return i < 0 ? Math.max(from, _length) : i;
+	}
+
+	@Override
+	public byte get(int offset){
+		return _bytes[offset];
+	}
+
+	@Override
+	public int available(){
+		return _length;
+	}
+
+	@Override
+	public void getBytes(int offset, byte[] dst, int dstOffset, int len){
+		System.arraycopy(_bytes, offset, dst, dstOffset, len);
+	}
+
+	// Replaces the removed bytes at offset with inserted, in place: the bytes after them are moved over, and the array
+	//  only grows (with room to spare) when it is full. The array passed to the constructor is edited until it grows.
+	public void replace(int offset, int removed, byte[] inserted){
+		if (offset < 0 || removed < 0 || offset + removed > _length){
+			throw new IndexOutOfBoundsException("edit [" + offset + "," + (offset + removed) + ") outside source of length " + _length);
+		}
+		int length = _length + inserted.length - removed;
+		if (length > _bytes.length){
+			_bytes = Arrays.copyOf(_bytes, Math.max(_bytes.length * 2, length));
+		}
+		System.arraycopy(_bytes, offset + removed, _bytes, offset + inserted.length, _length - offset - removed);
+		System.arraycopy(inserted, 0, _bytes, offset, inserted.length);
+		_length = length;
+		edited(offset);
+	}
+}
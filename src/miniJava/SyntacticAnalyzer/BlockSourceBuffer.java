@@ -0,0 +1,90 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+// Reads the underlying stream in fixed-size blocks, so the Scanner only pays for a read call every BLOCK_SIZE bytes.
+//  Blocks are appended to one array that keeps everything read so far, so earlier offsets stay valid.
+public class BlockSourceBuffer extends SourceBuffer {
+	public static final int BLOCK_SIZE = 1 << 16;
+
+	private InputStream _in;
+	private byte[] _bytes;
+	private int _length = 0;
+	private boolean _eof = false;
+
+	public BlockSourceBuffer(InputStream in) {
+		this(in, BLOCK_SIZE);
+	}
+
+	// expectedSize is only a hint for the initial capacity
+	public BlockSourceBuffer(InputStream in, int expectedSize) {
+		this._in = in;
+		this._bytes = new byte[Math.max(expectedSize + 1, 16)];
+	}
+
+	@Override
+	public int byteAt(int offset) throws IOException {
+		while (offset >= _length){
+			if (!fill()){
+				return -1;
+			}
+		}
+		return _bytes[offset] & 0xff;
+	}
+
+	// searches what has been read, then reads on block by block
+	@Override
+	public int indexOfOrNonAscii(int from, byte a, byte b) throws IOException {
+		while (true){
+			int i = ByteSearch.indexOfOrNonAscii(_bytes, from, _length, a, b);
+			if (i >= 0){
+				return i;
+			}
+			from = Math.max(from, _length);
+			if (!fill()){
+				return _length;
+			}
+		}
+	}
+
+	@Override
+	public byte get(int offset){
+		return _bytes[offset];
+	}
+
+	@Override
+	public int available(){
+		return _length;
+	}
+
+	@Override
+	public void getBytes(int offset, byte[] dst, int dstOffset, int len){
+		System.arraycopy(_bytes, offset, dst, dstOffset, len);
+	}
+
+	private boolean fill() throws IOException {
+		if (_eof){
+			return false;
+		}
+		if (_bytes.length == _length){
+			_bytes = Arrays.copyOf(_bytes, Math.max(_bytes.length * 2, _length + BLOCK_SIZE));
+		}
+		int n;
+		do {
+			n = _in.read(_bytes, _length, Math.min(BLOCK_SIZE, _bytes.length - _length));
+		} while (n == 0);
+		if (n < 0){
+			_eof = true;
+			return false;
+		}
+		_length += n;
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		_in.close();
+	}
+}
@@ -0,0 +1,69 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Word-at-a-time (SWAR) search for the first of two byte values or of a byte >= 128, 8 bytes per step, for the Scanner's
+//  skips over comment and string literal bodies (see SourceBuffer.indexOfOrNonAscii), which leave non-ASCII to its decoder.
+//  A word XORed with a byte value repeated 8 times has a zero byte exactly where the word holds that value;
+//  (x - 0x01..01) & ~x & 0x80..80 flags the lowest zero byte exactly (higher flags may be false positives from the borrow),
+//  and leaving out the ~x also flags the bytes >= 128 (XOR with an ASCII value keeps the high bit), so with little-endian
+//  loads the first match is numberOfTrailingZeros / 8.
+final class ByteSearch {
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final long ONES = 0x0101010101010101L;
+	private static final long HIGHS = 0x8080808080808080L;
+
+	private ByteSearch(){ }
+
+	private static long zeros(long x){
+		return (x - ONES) & ~x & HIGHS;
+	}
+
+	private static long zerosOrHighs(long x){
+		return ((x - ONES) | x) & HIGHS;
+	}
+
+	// index of the first a or b (both ASCII) or byte >= 128 in bytes[from,to), or -1
+	static int indexOfOrNonAscii(byte[] bytes, int from, int to, byte a, byte b){
+		long pa = (a & 0xffL) * ONES;
+		long pb = (b & 0xffL) * ONES;
+		int i = from;
+		for (; i + 8 <= to; i += 8){
+			long word = (long)LONGS.get(bytes, i);
+			long found = zeros(word ^ pa) | zerosOrHighs(word ^ pb);
+			if (found != 0){
+				return i + (Long.numberOfTrailingZeros(found) >>> 3);
+			}
+		}
+		for (; i < to; i++){
+			if (bytes[i] == a || bytes[i] == b || bytes[i] < 0){
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	// index of the first a or b (both ASCII) or byte >= 128 in buffer[from,to), or -1; buffer must be in little-endian order
+	static int indexOfOrNonAscii(ByteBuffer buffer, int from, int to, byte a, byte b){
+		long pa = (a & 0xffL) * ONES;
+		long pb = (b & 0xffL) * ONES;
+		int i = from;
+		for (; i + 8 <= to; i += 8){
+			long word = buffer.getLong(i);
+			long found = zeros(word ^ pa) | zerosOrHighs(word ^ pb);
+			if (found != 0){
+				return i + (Long.numberOfTrailingZeros(found) >>> 3);
+			}
+		}
+		for (; i < to; i++){
+			byte c = buffer.get(i);
+			if (c == a || c == b || c < 0){
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,55 @@
+package miniJava.SyntacticAnalyzer;
+
+// A minimized scanner DFA from ScannerTables, decoded into flat arrays for the Scanner's inner loop.
+//  Input bytes are first mapped to character classes (bytes that no rule tells apart share a class).
+//  States are numbered by the offset of their row in transitions, a power of two (1 << shift) wide, so that the next state
+//  is transitions[state + class], or DEAD, with no multiplication. The start state is 0.
+//  accepts[state >> shift] is the TokenType ordinal of the token ending in that state, or NONE, SKIP or ERROR.
+final class DfaTable {
+	static final int DEAD = -1;
+	static final int NONE = -1;
+	static final int SKIP = -2;
+	static final int ERROR = -3;
+
+	final byte[] classes = new byte[256];
+	final int shift;
+	final int highClass; //class of the bytes >= 128
+	final int[] transitions;
+	final int[] accepts;
+
+	// classes has a char per byte value; transitions a char per entry, holding the state + 1 (0 for DEAD);
+	//  accepts a char per state, holding an index into actions + 1 (0 for NONE)
+	DfaTable(String classes, int classCount, String[] transitions, String accepts, String[] actions){
+		for (int b = 0; b < 256; b++){
+			this.classes[b] = (byte)classes.charAt(b);
+		}
+		this.shift = 32 - Integer.numberOfLeadingZeros(classCount - 1);
+		this.highClass = this.classes[128];
+		StringBuilder all = new StringBuilder();
+		for (String chunk : transitions){
+			all.append(chunk);
+		}
+		int states = all.length() / classCount;
+		this.transitions = new int[states << shift];
+		java.util.Arrays.fill(this.transitions, DEAD);
+		for (int state = 0; state < states; state++){
+			for (int cls = 0; cls < classCount; cls++){
+				int target = all.charAt(state * classCount + cls) - 1;
+				this.transitions[(state << shift) + cls] = target == DEAD ? DEAD : target << shift;
+			}
+		}
+		this.accepts = new int[accepts.length()];
+		for (int s = 0; s < accepts.length(); s++){
+			int action = accepts.charAt(s) - 1;
+			if (action < 0){
+				this.accepts[s] = NONE;
+			} else if (actions[action].equals("skip")){
+				this.accepts[s] = SKIP;
+			} else if (actions[action].equals("error")){
+				this.accepts[s] = ERROR;
+			} else {
+				this.accepts[s] = TokenType.valueOf(actions[action]).ordinal();
+			}
+		}
+	}
+}
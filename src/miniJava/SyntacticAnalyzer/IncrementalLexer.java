@@ -0,0 +1,106 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.nio.charset.StandardCharsets;
+
+import miniJava.ErrorReporter;
+
+// Re-lexes a file after an edit by scanning only the region around the edit, instead of the whole file.
+//
+// Scanning restarts at the start of the last token that ends before the edit: that token's text, and the one
+//  character the Scanner looks past it, are unchanged, and a token start is never inside a comment or string literal.
+//  Scanning stops at the first new token past the edit that has the same type, length and (shifted) offset as an old token;
+//  everything after that point is the same text scanned from the same state, so the rest of the old tokens are reused.
+//  An edit that opens or closes a multi-line comment or string literal therefore rescans exactly as far as it changes the tokens.
+//
+// The edit is made in place, to both the source and the tokens: the source's bytes after the edit are moved over, and the
+//  rescanned tokens are spliced over the ones they replace, with the offsets of the reused tokens after them moved by the
+//  change in size. Scanning costs time proportional to the edit (plus the tokens it changes); the moves are bulk copies,
+//  with one pass over the tokens after the edit to shift their offsets.
+public class IncrementalLexer {
+
+	// Applies an edit to the source of tokens, which must have been scanned to EOT, and updates tokens to the new text.
+	//  offset and removed are byte offsets into the old source; inserted is encoded as UTF-8.
+	//  tokens and its source are edited in place; a source that is not an ArraySourceBuffer is first replaced by a copy that is.
+	//  Lexical errors are reported to errors only for the rescanned region. Returns tokens.
+	public static TokenStore relex(TokenStore tokens, int offset, int removed, String inserted, ErrorReporter errors){
+		int n = tokens.size();
+		if (n == 0 || tokens.type(n - 1) != TokenType.EOT){
+			throw new IllegalArgumentException("token stream must end with EOT");
+		}
+		ArraySourceBuffer source = editable(tokens);
+		int oldLength = source.available();
+		if (offset < 0 || removed < 0 || offset + removed > oldLength){
+			throw new IndexOutOfBoundsException("edit [" + offset + "," + (offset + removed) + ") outside source of length " + oldLength);
+		}
+
+		byte[] insertedBytes = inserted.getBytes(StandardCharsets.UTF_8);
+		int delta = insertedBytes.length - removed;
+		source.replace(offset, removed, insertedBytes);
+
+		//restart at the last token ending before the edit
+		int restart = lastEndingBefore(tokens, offset);
+		int restartOffset = 0;
+		if (restart >= 0){
+			restartOffset = tokens.start(restart);
+		} else {
+			restart = 0; //the edit is in or before the first token
+		}
+
+		//tokens still holds the old offsets, until the new tokens are spliced in
+		TokenStore rescanned = new TokenStore(source);
+		int editEnd = offset + insertedBytes.length; //end of the edit in the new text
+		Scanner scanner = new Scanner(source, errors, restartOffset);
+		int old = restart;
+		while (true){
+			int i = rescanned.size();
+			TokenType type = scanner.scanInto(rescanned);
+			int start = rescanned.start(i);
+			if (start >= editEnd){
+				//find the old token at the same place in the unchanged text after the edit
+				int oldStart = start - delta;
+				while (old < n && tokens.start(old) < oldStart){
+					old++;
+				}
+				if (old < n && tokens.start(old) == oldStart && tokens.type(old) == type 
+						&& tokens.end(old) - oldStart == rescanned.end(i) - start){
+					rescanned.truncate(i);
+					tokens.splice(restart, old, rescanned, delta);
+					return tokens;
+				}
+			}
+			if (type == TokenType.EOT){
+				tokens.splice(restart, n, rescanned, 0);
+				return tokens;
+			}
+		}
+	}
+
+	// the source of tokens, first replaced by an in-memory copy if it cannot be edited in place
+	private static ArraySourceBuffer editable(TokenStore tokens){
+		SourceBuffer source = tokens.source();
+		if (source instanceof ArraySourceBuffer){
+			return (ArraySourceBuffer)source;
+		}
+		byte[] text = new byte[source.available()];
+		source.getBytes(0, text, 0, text.length);
+		ArraySourceBuffer copy = new ArraySourceBuffer(text);
+		copy.setName(source.getName());
+		tokens.setSource(copy);
+		return copy;
+	}
+
+	// index of the last token with end < offset, or -1 if there is none
+	private static int lastEndingBefore(TokenStore tokens, int offset){
+		int lo = 0, hi = tokens.size() - 1, found = -1;
+		while (lo <= hi){
+			int mid = (lo + hi) >>> 1;
+			if (tokens.end(mid) < offset){
+				found = mid;
+				lo = mid + 1;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		return found;
+	}
+}
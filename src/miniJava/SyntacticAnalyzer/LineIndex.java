@@ -0,0 +1,77 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.util.Arrays;
+
+// Maps offsets in a SourceBuffer to line and column numbers, so the Scanner doesn't have to track them for every character.
+//  The offsets of newlines are recorded once, as far into the buffer as has been asked for, and looked up by binary search.
+//
+// Numbering matches what the Scanner has always reported: lines start at 1, a newline character is column 0
+//  of the line it starts, and the first character after it is column 1. A token at the very start of the file is at 1:0.
+//  Columns count UTF-16 chars, as editors do, not bytes: a UTF-8 sequence is one column, or two above U+FFFF.
+public class LineIndex {
+	private SourceBuffer _source;
+	private int[] _newlines = new int[64];
+	private int _count = 0;
+	private int _indexed = 0;
+	private int _lastOffset = -1, _lastCol; //the last column counted, which later offsets on its line count on from
+
+	public LineIndex(SourceBuffer source){
+		this._source = source;
+	}
+
+	public int line(int offset){
+		return newlinesUpTo(offset) + 1;
+	}
+
+	public int col(int offset){
+		if (offset == 0){
+			return 0;
+		}
+		int n = newlinesUpTo(offset);
+		int base = n == 0 ? -1 : _newlines[n - 1];
+		int from = base + 1;
+		int col = offset - base;
+		if (_lastOffset > base && _lastOffset <= offset){
+			from = _lastOffset;
+			col = _lastCol + offset - _lastOffset;
+		}
+		int limit = Math.min(offset, _source.available());
+		for (int i = from; i < limit; i++){
+			if (_source.get(i) < 0){
+				//UTF-8 from here on: count the chars it decodes to
+				col += Utf8.decode(_source, i, limit, null) - (limit - i);
+				break;
+			}
+		}
+		_lastOffset = offset;
+		_lastCol = col;
+		return col;
+	}
+
+	// Forgets the newlines from offset on, after the source was changed there; they are indexed again as asked for
+	void truncate(int offset){
+		int i = Arrays.binarySearch(_newlines, 0, _count, offset);
+		_count = i >= 0 ? i : -(i + 1);
+		_indexed = Math.min(_indexed, offset);
+		_lastOffset = -1;
+	}
+
+	// number of newlines at or before offset
+	private int newlinesUpTo(int offset){
+		extend(Math.min(offset + 1, _source.available()));
+		int i = Arrays.binarySearch(_newlines, 0, _count, offset);
+		return i >= 0 ? i + 1 : -(i + 1);
+	}
+
+	private void extend(int limit){
+		for (int i = _indexed; i < limit; i++){
+			if (_source.get(i) == '\n'){
+				if (_count == _newlines.length){
+					_newlines = Arrays.copyOf(_newlines, _count * 2);
+				}
+				_newlines[_count++] = i;
+			}
+		}
+		_indexed = Math.max(_indexed, limit);
+	}
+}
@@ -0,0 +1,55 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+// Memory-maps the file so large inputs are paged in by the OS instead of copied through a read buffer.
+//  Token offsets are ints, so a single mapping (at most 2GB) covers any file the Scanner can address.
+public class MappedSourceBuffer extends SourceBuffer {
+	private MappedByteBuffer _map;
+	private int _size;
+
+	public MappedSourceBuffer(File f) throws IOException {
+		try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.READ)){
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE){
+				throw new IOException("File too large to scan: " + f);
+			}
+			this._size = (int)size;
+			//the mapping stays valid after the channel is closed; it is released when the buffer is collected
+			this._map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			this._map.order(ByteOrder.LITTLE_ENDIAN); //for ByteSearch
+
+		}
+	}
+
+	@Override
+	public int byteAt(int offset){
+		return offset < _size ? _map.get(offset) & 0xff : -1;
+	}
+
+	@Override
+	public int indexOfOrNonAscii(int from, byte a, byte b){
+		int i = ByteSearch.indexOfOrNonAscii(_map, from, _size, a, b);
+		return i < 0 ? Math.max(from, _size) : i;
+	}
+
+	@Override
+	public byte get(int offset){
+		return _map.get(offset);
+	}
+
+	@Override
+	public int available(){
+		return _size;
+	}
+
+	@Override
+	public void getBytes(int offset, byte[] dst, int dstOffset, int len){
+		_map.get(offset, dst, dstOffset, len);
+	}
+}
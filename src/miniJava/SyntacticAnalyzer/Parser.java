@@ -1,29 +1,57 @@
 package miniJava.SyntacticAnalyzer;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.stream.Collectors;
 
 
 import miniJava.Compiler;
 import miniJava.CompilerError;
 import miniJava.ErrorReporter;
+import miniJava.AbstractSyntaxTrees.AST;
+import miniJava.AbstractSyntaxTrees.NodeKind;
+import miniJava.Events.ParsePhaseEvent;
 
 public class Parser {
-	private Scanner _scanner;
+	private TokenCursor _tokens;
 	private ErrorReporter _errors;
-	private Token _currentToken;
-	
+	private AST _ast;
+	private int _previousEnd = 0; //end of the last token accepted
+
+	// values waiting to be combined into nodes: operator and name spans, and operands of a ternary chain
+	private int[] _pending = new int[32];
+	private int _pendingSize = 0;
+
+	private int _depth = 0; //statements and expressions currently being parsed, innermost included
+	private int _maxDepth = 0;
+
 	public Parser( Scanner scanner, ErrorReporter errors ) {
-		this._scanner = scanner;
+		this(new TokenRing(scanner), errors);
+	}
+
+	public Parser( TokenCursor tokens, ErrorReporter errors ) {
+		this._tokens = tokens;
 		this._errors = errors;
-		this._currentToken = this._scanner.scan();
+		this._ast = new AST(tokens.source());
+	}
+
+	// The tree built by parse(). After syntax errors it holds everything that was recovered:
+	//  a class, member or statement abandoned by error recovery is left out of its parent.
+	public AST getAST(){
+		return _ast;
+	}
+
+	// Deepest nesting of statements and expressions parse() recursed into, a measure of the stack it needed
+	public int maxDepth(){
+		return _maxDepth;
 	}
-	
+
+	// Syntax errors are located at the current token, or at the token they are given
 	class SyntaxError extends CompilerError {
 		public SyntaxError(String message) {
-			super(message);
+			this(message, _tokens.token());
+		}
+
+		public SyntaxError(String message, Token at) {
+			super(message, _tokens.sourceName(), at.getLine(), at.getCol(), at.getOffset(), at.getEnd());
 		}
 
 		public SyntaxError(String message, String file, int line) {
@@ -33,19 +61,52 @@ public class Parser {
 
 		private static final long serialVersionUID = -6461942006097999362L;
 	}
-	
+
 	public void parse() {
+		ParsePhaseEvent event = new ParsePhaseEvent();
+		event.begin();
 		try {
 			// The first thing we need to parse is the Program symbol
 			parseProgram();
 		} catch( SyntaxError e ) { }
+		commit(event, ParsePhaseEvent.PROGRAM, 0, AST.NONE);
+	}
+
+	// Ends event, and commits it if it is being recorded (otherwise this costs next to nothing)
+	private void commit(ParsePhaseEvent event, String phase, int start, int node){
+		event.end();
+		if (event.shouldCommit()){
+			event.source = _tokens.sourceName();
+			event.phase = phase;
+			event.name = node == AST.NONE ? null : _ast.text(node).toString();
+			event.startOffset = start;
+			event.endOffset = _previousEnd;
+			event.commit();
+		}
 	}
-	
+
 	// Program ::= (ClassDeclaration)* eot
 	private void parseProgram() throws SyntaxError {
-		parseHeader();
-		while (this._currentToken.getTokenType() != TokenType.EOT){
-			parseClassDeclaration();
+		int mark = _ast.mark();
+		try {
+			parseHeader();
+			while (_tokens.type() != TokenType.EOT){
+				int top = _ast.mark();
+				ParsePhaseEvent event = new ParsePhaseEvent();
+				event.begin();
+				int start = _tokens.start();
+				int node = AST.NONE;
+				try {
+					node = parseClassDeclaration();
+					_ast.push(node);
+				} catch (SyntaxError e){
+					_ast.release(top);
+					synchronize(e, SYNC_CLASS);
+				}
+				commit(event, ParsePhaseEvent.CLASS, start, node);
+			}
+		} finally {
+			_ast.setRoot(_ast.addList(NodeKind.Program, 0, _tokens.start(), mark));
 		}
 	}
 
@@ -55,44 +116,75 @@ public class Parser {
 		}
 		//parse package statement
 		accept(TokenType.packageKeyword);
+		int start = _tokens.start();
 		accept(TokenType.id);
 		while (acceptOptional(TokenType.dot)){
 			accept(TokenType.id);
 		}
+		_ast.push(_ast.add(NodeKind.PackageDecl, start, _previousEnd));
 		accept(TokenType.semicolon);
-		
+
 		//parse import statements
 		while (acceptOptional(TokenType.importKeyword)){
+			start = _tokens.start();
 			accept(TokenType.id);
 			while (acceptOptional(TokenType.dot)){
-				if (_currentToken.getTokenText() == "*"){
+				if ("*".contentEquals(_tokens.text())){
 					accept(TokenType.binOp);
 					//import a.b.c.*
 					break;
 				}
 				accept(TokenType.id);
 			}
+			_ast.push(_ast.add(NodeKind.ImportDecl, start, _previousEnd));
 			accept(TokenType.semicolon);
 		}
 	}
-	
+
 	// ClassDeclaration ::= class identifier { (FieldDeclaration|MethodDeclaration)* }
-	private void parseClassDeclaration() throws SyntaxError {
+	private int parseClassDeclaration() throws SyntaxError {
 		// TODO: Take in a "class" token (check by the TokenType)
 		//  What should be done if the first token isn't "class"?
+		int mark = _ast.mark();
 		if (!Compiler.IS_MINI){
-			acceptOptional(TokenType.protection);
-			while (acceptOptional(TokenType.modifier)){}
+			_ast.push(parseModifiers());
+		} else {
+			_ast.push(_ast.add(NodeKind.Modifiers, _tokens.start(), _tokens.start()));
 		}
-		accept(TokenType.classKeyword,TokenType.id);
+		accept(TokenType.classKeyword);
+		int nameStart = _tokens.start();
+		int nameEnd = _tokens.end();
+		accept(TokenType.id);
+		int superclass = AST.NONE;
 		if (!Compiler.IS_MINI && acceptOptional(TokenType.extendsKeyword)){
-			parseType(false);
+			superclass = parseType(false);
 		}
+		_ast.push(superclass);
 		accept(TokenType.lcurly);
-		
+
 		while (!acceptOptional(TokenType.rcurly)){
-			parseFieldOrMethod();
+			int top = _ast.mark();
+			try {
+				parseFieldOrMethod();
+			} catch (SyntaxError e){
+				_ast.release(top);
+				synchronize(e, SYNC_MEMBER);
+			}
+		}
+		return _ast.addList(NodeKind.ClassDecl, nameStart, nameEnd, mark);
+	}
+
+	// [protection] [modifier]*
+	private int parseModifiers(){
+		int mark = _ast.mark();
+		int start = _tokens.start();
+		if (_tokens.type() == TokenType.protection){
+			_ast.push(leaf(NodeKind.Modifier));
+		}
+		while (_tokens.type() == TokenType.modifier){
+			_ast.push(leaf(NodeKind.Modifier));
 		}
+		return _ast.addList(NodeKind.Modifiers, start, _ast.mark() > mark ? _previousEnd : start, mark);
 	}
 
 
@@ -100,297 +192,527 @@ public class Parser {
 	int FIELD = 1;
 	int METHOD = 2;
 	// [protection] [modifier] Type Identifier (FieldBody | MethodBody)
+	//  Pushes the declared members onto the AST's stack: one FieldDecl per name, or a MethodDecl.
 	private void parseFieldOrMethod() throws SyntaxError {
 		//protection, modifier
-		acceptOptional(TokenType.protection);
-		while (acceptOptional(TokenType.modifier)){}
+		int modifiers = parseModifiers();
 		//type
 		int type = FIELD_OR_METHOD;
-		if (acceptOptional(TokenType.voidKeyword)){
+		int typeNode;
+		if (_tokens.type() == TokenType.voidKeyword){
+			typeNode = leaf(NodeKind.VoidType);
 			type = METHOD;
 		} else {
-			parseType();
+			typeNode = parseType();
 		}
 
 		//name(s)
-		if (acceptListOf(TokenType.id) > 1){
-			if (type == METHOD){
-				err(new SyntaxError("void keyword not allowed in field declaration"));
+		int names = _pendingSize;
+		try {
+			do {
+				int start = _tokens.start();
+				int end = _tokens.end();
+				accept(TokenType.id);
+				pend(start);
+				pend(end);
+			} while (acceptOptional(TokenType.comma));
+			if (_pendingSize - names > 2){
+				if (type == METHOD){
+					err(new SyntaxError("void keyword not allowed in field declaration"));
+				}
+				type = FIELD;
 			}
-			type = FIELD;
-		}
 
-		if (acceptOptional(TokenType.lparen)){
-			if (type == FIELD){
-				err(new SyntaxError("Unexpected token '(' in field declaration"));
-			}
-			if (!acceptOptional(TokenType.rparen))
-			{
-				do {
-					parseType();
-					if (!Compiler.IS_MINI) acceptOptional(TokenType.ellipsis);
-					accept(TokenType.id);
-				} while (acceptOptional(TokenType.comma));
-				accept(TokenType.rparen);
-			}
-			if (acceptOptional(TokenType.throwsKeyword)){
+			int parenStart = _tokens.start();
+			int parenEnd = _tokens.end();
+			if (acceptOptional(TokenType.lparen)){
 				if (type == FIELD){
-					err(new SyntaxError("Keyword 'throws' is not allowed in field declaration"));
+					err(new SyntaxError("Unexpected token '(' in field declaration"));
 				}
-				type = METHOD;
-				parseType(false); //method throws exceptions
-			}	
-			parseStatement(true,true,false);
-			return;
-		}
-		if (acceptOptional(TokenType.assignment)){
-			if (Compiler.IS_MINI){
-				err(new SyntaxError("Field assignment on declaration not supported in minijava."));
+				int mark = _ast.mark();
+				if (!acceptOptional(TokenType.rparen))
+				{
+					do {
+						int paramType = parseType();
+						int start = _tokens.start();
+						int end = _tokens.end();
+						if (!Compiler.IS_MINI && acceptOptional(TokenType.ellipsis)){
+							paramType = _ast.add(NodeKind.ArrayType, start, end, paramType);
+						}
+						start = _tokens.start();
+						end = _tokens.end();
+						accept(TokenType.id);
+						_ast.push(_ast.add(NodeKind.Parameter, start, end, paramType));
+					} while (acceptOptional(TokenType.comma));
+					accept(TokenType.rparen);
+				}
+				int parameters = _ast.addList(NodeKind.Parameters, parenStart, parenEnd, mark);
+				int thrown = AST.NONE;
+				if (acceptOptional(TokenType.throwsKeyword)){
+					if (type == FIELD){
+						err(new SyntaxError("Keyword 'throws' is not allowed in field declaration"));
+					}
+					type = METHOD;
+					thrown = parseType(false); //method throws exceptions
+				}
+				int body = parseStatement(true,true,false);
+				mark = _ast.mark();
+				_ast.push(modifiers);
+				_ast.push(typeNode);
+				_ast.push(parameters);
+				_ast.push(thrown);
+				_ast.push(body);
+				_ast.push(_ast.addList(NodeKind.MethodDecl, _pending[names], _pending[names + 1], mark));
+				return;
 			}
-			if (type == METHOD){
-				err(new SyntaxError("void keyword not allowed in field declaration"));
+			if (acceptOptional(TokenType.assignment)){
+				if (Compiler.IS_MINI){
+					err(new SyntaxError("Field assignment on declaration not supported in minijava."));
+				}
+				if (type == METHOD){
+					err(new SyntaxError("void keyword not allowed in field declaration"));
+				}
+				int initializer = parseExpression();
+				accept(TokenType.semicolon);
+				pushFields(modifiers, typeNode, names, initializer);
+				return;
 			}
-			parseExpression();
-			accept(TokenType.semicolon);
-			return;
-		}
-		if (acceptOptional(TokenType.semicolon)){
-			if (type == METHOD){
-				err(new SyntaxError("void keyword not allowed in field declaration"));
+			if (acceptOptional(TokenType.semicolon)){
+				if (type == METHOD){
+					err(new SyntaxError("void keyword not allowed in field declaration"));
+				}
+				pushFields(modifiers, typeNode, names, AST.NONE);
+				return;
 			}
-			return;
+			err(new SyntaxError("Unexpected token in class body: " + _tokens.token()));
+		} finally {
+			_pendingSize = names;
+		}
+	}
+
+	// one FieldDecl for each name pending from names on; only the last name has the initializer, as in "int a, b = 1;"
+	private void pushFields(int modifiers, int type, int names, int initializer){
+		for (int p = names; p < _pendingSize; p += 2){
+			int init = p + 2 == _pendingSize ? initializer : AST.NONE;
+			_ast.push(_ast.add(NodeKind.FieldDecl, _pending[p], _pending[p + 1], modifiers, type, init));
 		}
-		err(new SyntaxError("Unexpected token in class body: " + _currentToken));
 	}
 
 
-	private boolean parseStatement(){
+	private int parseStatement(){
 		return parseStatement(false,true,false);
 	}
 
 	//block = require {Statement*}
-	//foreach = allow Type id : reference;  if foreach, returns whether the statement is a valid foreach statement
-	private boolean parseStatement(boolean block, boolean allow_keyword, boolean foreach){
-		if (block || _currentToken.getTokenType() == TokenType.lcurly){
+	//foreach = allow Type id : reference;  if foreach, may return the ForEachVarDecl of a for-each loop
+	private int parseStatement(boolean block, boolean allow_keyword, boolean foreach){
+		if (++_depth > _maxDepth){
+			_maxDepth = _depth;
+		}
+		try {
+			return parseStatementBody(block, allow_keyword, foreach);
+		} finally {
+			_depth--;
+		}
+	}
+
+	private int parseStatementBody(boolean block, boolean allow_keyword, boolean foreach){
+		//keyword statements are located at their keyword
+		TokenType keyword = _tokens.type();
+		int start = _tokens.start();
+		int end = _tokens.end();
+		if (block || _tokens.type() == TokenType.lcurly){
 			accept(TokenType.lcurly);
+			int mark = _ast.mark();
 			while (!acceptOptional(TokenType.rcurly)){
-				parseStatement(); //foreach does not nest
+				int top = _ast.mark();
+				try {
+					_ast.push(parseStatement()); //foreach does not nest
+				} catch (SyntaxError e){
+					_ast.release(top);
+					synchronize(e, SYNC_STATEMENT);
+				}
 			}
-			return false;
+			return _ast.addList(NodeKind.Block, start, end, mark);
 		}
-		Token t = _currentToken;
 		if (acceptOptional(TokenType.returnKeyword)){
+			int value = AST.NONE;
 			if (!acceptOptional(TokenType.semicolon)){
-				parseExpression();
+				value = parseExpression();
 				accept(TokenType.semicolon);
 			}
+			return _ast.add(NodeKind.ReturnStmt, start, end, value);
 		} else if (allow_keyword && !Compiler.IS_MINI && acceptOptional(TokenType.throwKeyword)){
-			parseExpression();
+			int value = parseExpression();
 			accept(TokenType.semicolon);
-		} else if (allow_keyword && !Compiler.IS_MINI && (acceptAnyOptional(TokenType.breakKeyword,TokenType.continueKeyword))){
+			return _ast.add(NodeKind.ThrowStmt, start, end, value);
+		} else if (allow_keyword && !Compiler.IS_MINI && (acceptAnyOptional(JUMP_KEYWORDS))){
 			accept(TokenType.semicolon);
+			return _ast.add(keyword == TokenType.breakKeyword ? NodeKind.BreakStmt : NodeKind.ContinueStmt, start, end);
 		} else if (allow_keyword && !Compiler.IS_MINI && acceptOptional(TokenType.tryKeyword)) {
-			parseStatement(true,false,false);
+			int body = parseStatement(true,false,false);
+			int parameter = AST.NONE;
+			int handler = AST.NONE;
+			int finallyBlock = AST.NONE;
 			boolean do_finally = false;
 			if (acceptOptional(TokenType.catchKeyword)){
 				accept(TokenType.lparen);
-				parseType(false);
+				int parameterType = parseType(false);
+				int nameStart = _tokens.start();
+				int nameEnd = _tokens.end();
 				accept(TokenType.id);
+				parameter = _ast.add(NodeKind.Parameter, nameStart, nameEnd, parameterType);
 				accept(TokenType.rparen);
-				parseStatement(true,false,false);
+				handler = parseStatement(true,false,false);
 				do_finally = acceptOptional(TokenType.finallyKeyword);
 			} else {
 				do_finally = true;
 				accept(TokenType.finallyKeyword);
 			}
 			if (do_finally){
-				parseStatement(true,false,false);
+				finallyBlock = parseStatement(true,false,false);
 			}
+			return _ast.add(NodeKind.TryStmt, start, end, body, parameter, handler, finallyBlock);
 		} else if (allow_keyword && acceptOptional(TokenType.ifKeyword)){
 			accept(TokenType.lparen);
-			parseExpression();
+			int condition = parseExpression();
 			accept(TokenType.rparen);
-			parseStatement();
+			int then = parseStatement();
+			int otherwise = AST.NONE;
 			if (acceptOptional(TokenType.elseKeyword)){
-				parseStatement();
+				otherwise = parseStatement();
 			}
+			return _ast.add(NodeKind.IfStmt, start, end, condition, then, otherwise);
 		} else if (allow_keyword && acceptOptional(TokenType.forKeyword)){
 			//not doing for-each, interacts strangely with parsestatement
 			accept(TokenType.lparen);
-			if (!parseStatement(false,false,true)){ //returning true means parsed foreach statement
+			int init = parseStatement(false,false,true);
+			int condition = AST.NONE;
+			int update = AST.NONE;
+			if (_ast.kind(init) != NodeKind.ForEachVarDecl){
 				accept(TokenType.semicolon);
-				parseStatement(false,false,false);
+				condition = parseStatement(false,false,false);
 				accept(TokenType.semicolon);
-				parseStatement(false,false,false);
+				update = parseStatement(false,false,false);
 				acceptOptional(TokenType.semicolon);
 			}
 			accept(TokenType.rparen);
-			parseStatement();
+			int body = parseStatement();
+			return _ast.add(NodeKind.ForStmt, start, end, init, condition, update, body);
 		} else if (allow_keyword && !Compiler.IS_MINI && acceptOptional(TokenType.doKeyword)){
 			//do-while
-			parseStatement();
-			accept(TokenType.whileKeyword,TokenType.lparen);
-			parseExpression();
+			int body = parseStatement();
+			accept(TokenType.whileKeyword);
+			accept(TokenType.lparen);
+			int condition = parseExpression();
 			accept(TokenType.rparen);
 			accept(TokenType.semicolon);
+			return _ast.add(NodeKind.DoWhileStmt, start, end, body, condition);
 		} else if (allow_keyword && acceptOptional(TokenType.whileKeyword)){
 			accept(TokenType.lparen);
-			parseExpression();
+			int condition = parseExpression();
 			accept(TokenType.rparen);
-			parseStatement();
+			int body = parseStatement();
+			return _ast.add(NodeKind.WhileStmt, start, end, condition, body);
 		} else if (acceptOptional(TokenType.incOp)){ //prefix unop to increment/decrement reference
 			int ttype = parseTypeOrReference();
+			int target = _reference;
 			if (ttype == TYPE){
-				err(new SyntaxError("Operator " + t +" not valid for Type;"));
+				Token operator = token(keyword, start, end);
+				err(new SyntaxError("Operator " + operator + " not valid for Type;", operator));
 			}
 			accept(TokenType.semicolon);
+			return _ast.add(NodeKind.AssignStmt, start, end, target, AST.NONE);
 		} else {
-			int ttype = parseTypeOrReference();
-			t = _currentToken;
+			int ttype;
+			int reference;
+			if (declarationAhead()){ //Type id: no need to parse it as a possible reference
+				reference = parseType();
+				ttype = TYPE;
+			} else {
+				ttype = parseTypeOrReference();
+				reference = _reference;
+			}
+			TokenType tType = _tokens.type();
+			//other statements are located at the declared name, the assignment operator, or the closing ';'
+			start = _tokens.start();
+			end = _tokens.end();
 			if (acceptOptional(TokenType.id)){
 				if (ttype != TYPE && ttype != TYPE_OR_REFERENCE){
-					err(new SyntaxError("Unexpected token after reference: " + t));
+					Token name = token(tType, start, end);
+					err(new SyntaxError("Unexpected token after reference: " + name, name));
 				}
 				ttype = TYPE; //received Type id
+				int varType = asType(reference);
 				if (foreach && acceptOptional(TokenType.colon)){
-					parseExpression();
-					return true;
+					int iterated = parseExpression();
+					return _ast.add(NodeKind.ForEachVarDecl, start, end, varType, iterated);
 				}
+				int initializer = AST.NONE;
 				if (Compiler.IS_MINI || !acceptOptional(TokenType.semicolon)){ //if mini, always require assignment
 					accept(TokenType.assignment);
-					parseExpression(true);
+					initializer = parseExpression(true);
 					accept(TokenType.semicolon);
 				}
-			} else if (acceptOptional(TokenType.assignOp) || acceptOptional(TokenType.assignment) || acceptOptional(TokenType.incOp)){
+				return _ast.add(NodeKind.VarDeclStmt, start, end, varType, initializer);
+			} else if (acceptAnyOptional(Token.assignmentOperators)){
 				if (ttype == TYPE){
-					err(new SyntaxError("Type missing identifier; unexpected token " + t));
+					Token operator = token(tType, start, end);
+					err(new SyntaxError("Type missing identifier; unexpected token " + operator, operator));
 				}
 				if (ttype == REFERENCE_UNASSIGNABLE){ //unassignable
 					err(new SyntaxError("Cannot assign to read only expression;"));
 				}
-				if (t.getTokenType() != TokenType.incOp){ // no expression to assign for ++,--
-					parseExpression();
+				int value = AST.NONE;
+				if (tType != TokenType.incOp){ // no expression to assign for ++,--
+					value = parseExpression();
 				}
 				accept(TokenType.semicolon);
+				return _ast.add(NodeKind.AssignStmt, start, end, reference, value);
 			} else if (acceptOptional(TokenType.semicolon)) {
 				if (ttype != REFERENCE_UNASSIGNABLE){
-					err(new SyntaxError("Reference value unused (" + _currentToken + ")"));
+					err(new SyntaxError("Reference value unused (" + _tokens.token() + ")"));
 				}
+				return _ast.add(NodeKind.ExprStmt, start, end, reference);
 			} else {
-				err(new SyntaxError("Unexpected token after type/reference: " + t));
+				err(new SyntaxError("Unexpected token after type/reference: " + _tokens.token()));
 			}
 		}
-		return false;
+		return AST.NONE; //unreachable; err throws
 	}
 
-	private void parseExpression(){
-		parseExpression(false);
+	private int parseExpression(){
+		return parseExpression(false);
 	}
 
-	private void parseExpression(boolean allow_array_literal){
-		if (acceptOptional(TokenType.unOp) || acceptOptional(TokenType.genOp) || acceptOptional(TokenType.incOp)){ //looking for unops, priority over binop
-			parseExpression();
-		} else if (allow_array_literal && acceptOptional(TokenType.lcurly)) {
-			do {
-				if (_currentToken.getTokenType() == TokenType.rcurly) break;
-				parseExpression();
-			} while (acceptOptional(TokenType.comma));
-			accept(TokenType.rcurly);
-		} else if (acceptAnyOptional(Token.literals)){ //any literal is an expression
-		} else if (acceptOptional(TokenType.lparen)){
-			parseExpression();
-			accept(TokenType.rparen);
-		} else if (acceptOptional(TokenType.newKeyword)){
-			parseType(false); //raw type without brackets
-			if (acceptOptional(TokenType.lparen)){
-				if (Compiler.IS_MINI){
-					accept(TokenType.rparen);
-				}
-				else if (!acceptOptional(TokenType.rparen)){
-					do {
-						if (_currentToken.getTokenType() == TokenType.rparen) break;
-						parseExpression();
-					} while (acceptOptional(TokenType.comma));
-					accept(TokenType.rparen);
-				}
-			}
-			while (acceptOptional(TokenType.lsquare)){
-				parseExpression();
-				accept(TokenType.rsquare);
+	// Expression ::= Binary (? Expression : Binary)*
+	//  Operator chains are parsed in loops (precedence climbing), so the Parser only recurses for nesting:
+	//  parentheses, brackets, arguments and the middle of a ternary. A chain of any length uses a bounded amount of stack.
+	private int parseExpression(boolean allow_array_literal){
+		if (++_depth > _maxDepth){
+			_maxDepth = _depth;
+		}
+		int base = _pendingSize;
+		try {
+			int expr = parseBinaryExpression(allow_array_literal, LOWEST_PRECEDENCE);
+			while (_tokens.type() == TokenType.question){ //ternary operator; a ? b : c ? d : e chains without recursing
+				pend(expr);
+				pend(_tokens.start());
+				pend(_tokens.end());
+				advance();
+				pend(parseExpression());
+				accept(TokenType.colon);
+				expr = parseBinaryExpression(false, LOWEST_PRECEDENCE);
 			}
-		} else {
-			int ttype = parseTypeOrReference();
-			if (ttype == TYPE){
-				err(new SyntaxError("Type is not a valid expression"));
+			//the chain nests to the right: a ? b : (c ? d : e)
+			for (int p = _pendingSize - 4; p >= base; p -= 4){
+				expr = _ast.add(NodeKind.TernaryExpr, _pending[p + 1], _pending[p + 2], _pending[p], _pending[p + 3], expr);
 			}
-			//otherwise, a reference; valid expression
+			return expr;
+		} finally {
+			_pendingSize = base;
+			_depth--;
 		}
-		if (acceptAnyOptional(TokenType.incOp)){
-			return;
-		}
-		if (acceptAnyOptional(TokenType.binOp,TokenType.compOp,TokenType.genOp,TokenType.lchevron,TokenType.rchevron)){
-			parseExpression();
-			return;
+	}
+
+	// Binary ::= Unary (binop Unary)*, where each operator only takes operands of higher precedence on its right
+	private int parseBinaryExpression(boolean allow_array_literal, int minPrecedence){
+		int left = parseUnaryExpression(allow_array_literal);
+		while (true){
+			int precedence = binaryPrecedence();
+			if (precedence < minPrecedence){
+				return left;
+			}
+			int start = _tokens.start();
+			int end = _tokens.end();
+			advance();
+			//left-associative: the right operand only extends over tighter operators; recursion depth is bounded by the number of levels
+			int right = parseBinaryExpression(false, precedence + 1);
+			left = _ast.add(NodeKind.BinaryExpr, start, end, left, right);
 		}
-		if (acceptOptional(TokenType.question)){ //ternary operator
-			parseExpression();
-			accept(TokenType.colon);
-			parseExpression();
-			return;
+	}
+
+	// Binary operator precedence, from the operator text the Scanner captured: binOp, compOp and genOp each cover several levels.
+	//  Returns NOT_BINARY (below every level) if the current token isn't a binary operator.
+	private static final int NOT_BINARY = 0;
+	private static final int LOWEST_PRECEDENCE = 1;
+	private static final int OR_PRECEDENCE = 1; // ||
+	private static final int AND_PRECEDENCE = 2; // &&
+	private static final int BITOR_PRECEDENCE = 3; // |
+	private static final int BITAND_PRECEDENCE = 4; // &
+	private static final int EQUALITY_PRECEDENCE = 5; // == !=
+	private static final int RELATIONAL_PRECEDENCE = 6; // < > <= >=
+	private static final int ADDITIVE_PRECEDENCE = 7; // + -
+	private static final int MULTIPLICATIVE_PRECEDENCE = 8; // * / %
+	private int binaryPrecedence(){
+		switch (_tokens.type()){
+			case genOp:
+				return ADDITIVE_PRECEDENCE;
+			case lchevron:
+			case rchevron:
+				return RELATIONAL_PRECEDENCE;
+			case compOp: {
+				char first = _tokens.text().charAt(0);
+				return first == '=' || first == '!' ? EQUALITY_PRECEDENCE : RELATIONAL_PRECEDENCE;
+			}
+			case binOp: {
+				CharSequence text = _tokens.text();
+				char first = text.charAt(0);
+				boolean doubled = text.length() > 1 && text.charAt(1) == first;
+				if (first == '|') return doubled ? OR_PRECEDENCE : BITOR_PRECEDENCE;
+				if (first == '&') return doubled ? AND_PRECEDENCE : BITAND_PRECEDENCE;
+				return MULTIPLICATIVE_PRECEDENCE;
+			}
+			default:
+				return NOT_BINARY;
 		}
+	}
 
+	// Unary ::= (unop | genOp | incOp)* Primary [incOp]
+	private int parseUnaryExpression(boolean allow_array_literal){
+		int base = _pendingSize;
+		try {
+			while (at(Token.prefixOperators)){
+				pend(_tokens.start());
+				pend(_tokens.end());
+				advance();
+			}
+			boolean prefixed = _pendingSize > base;
+			int start = _tokens.start();
+			int end = _tokens.end();
+			int expr;
+			if (!prefixed && allow_array_literal && acceptOptional(TokenType.lcurly)) {
+				int mark = _ast.mark();
+				do {
+					if (_tokens.type() == TokenType.rcurly) break;
+					_ast.push(parseExpression());
+				} while (acceptOptional(TokenType.comma));
+				accept(TokenType.rcurly);
+				expr = _ast.addList(NodeKind.ArrayLiteralExpr, start, end, mark);
+			} else if (acceptAnyOptional(Token.literalTypes)){ //any literal is an expression
+				expr = _ast.add(NodeKind.LiteralExpr, start, end);
+			} else if (acceptOptional(TokenType.lparen)){
+				expr = parseExpression();
+				accept(TokenType.rparen);
+			} else if (acceptOptional(TokenType.newKeyword)){
+				int mark = _ast.mark();
+				_ast.push(parseType(false)); //raw type without brackets
+				boolean object = false;
+				if (acceptOptional(TokenType.lparen)){
+					object = true;
+					if (Compiler.IS_MINI){
+						accept(TokenType.rparen);
+					}
+					else if (!acceptOptional(TokenType.rparen)){
+						do {
+							if (_tokens.type() == TokenType.rparen) break;
+							_ast.push(parseExpression());
+						} while (acceptOptional(TokenType.comma));
+						accept(TokenType.rparen);
+					}
+					expr = _ast.addList(NodeKind.NewObjectExpr, start, end, mark);
+					//brackets after a constructor call index its result
+					while (_tokens.type() == TokenType.lsquare){
+						int bracketStart = _tokens.start();
+						int bracketEnd = _tokens.end();
+						advance();
+						int index = parseExpression();
+						accept(TokenType.rsquare);
+						expr = _ast.add(NodeKind.IndexRef, bracketStart, bracketEnd, expr, index);
+					}
+				} else {
+					while (acceptOptional(TokenType.lsquare)){
+						_ast.push(parseExpression());
+						accept(TokenType.rsquare);
+					}
+					expr = _ast.addList(NodeKind.NewArrayExpr, start, end, mark);
+				}
+			} else {
+				if (typeAhead()){ //reported at the type, before parsing it
+					err(new SyntaxError("Type is not a valid expression"));
+				}
+				int ttype = parseTypeOrReference();
+				if (ttype == TYPE){
+					err(new SyntaxError("Type is not a valid expression"));
+				}
+				//otherwise, a reference; valid expression
+				expr = _reference;
+			}
+			if (_tokens.type() == TokenType.incOp){
+				expr = _ast.add(NodeKind.PostfixExpr, _tokens.start(), _tokens.end(), expr);
+				advance();
+			}
+			//prefix operators apply innermost first, after any postfix one
+			for (int p = _pendingSize - 2; p >= base; p -= 2){
+				expr = _ast.add(NodeKind.UnaryExpr, _pending[p], _pending[p + 1], expr);
+			}
+			return expr;
+		} finally {
+			_pendingSize = base;
+		}
 	}
 
 
 	//NOTE: DIFFERENT SYNTAX THAN ORIGINAL GRAMMAR - reference **includes the contents of any brackets and parentheses**; anything that could be assigned to.
+	//  The node built for the type or reference is left in _reference.
 	private static final int TYPE = 1;
 	private static final int REFERENCE = 2;
 	private static final int REFERENCE_UNASSIGNABLE = 3;
 	private static final int TYPE_OR_REFERENCE = 0;
+	private int _reference = AST.NONE;
 	private int parseTypeOrReference() throws SyntaxError{
-		Token _base_token = _currentToken;
-		if (acceptAnyOptional(Token.primitives.values())){
-			if (Compiler.IS_MINI && _base_token.getTokenType() == TokenType.boolPrimitive){
+		TokenType baseType = _tokens.type();
+		int start = _tokens.start();
+		int end = _tokens.end();
+		if (acceptAnyOptional(Token.primitiveTypes)){
+			_reference = _ast.add(NodeKind.PrimitiveType, start, end);
+			if (Compiler.IS_MINI && baseType == TokenType.boolPrimitive){
 				return TYPE; //don't allow boolean arrays because minijava is silly
 			}
-			while (acceptOptional(TokenType.lsquare)){
-				accept(TokenType.rsquare);
-			}
+			_reference = parseArrayBrackets(_reference);
 			return TYPE;
 		}
 		int type = TYPE_OR_REFERENCE; //start ambiguous
-		acceptAny(TokenType.id,TokenType.thisKeyword);
+		acceptAny(REFERENCE_START);
+		//the reference under construction; _reference is overwritten by any expression parsed within it
+		int ref = _ast.add(baseType == TokenType.thisKeyword ? NodeKind.ThisRef : NodeKind.IdRef, start, end);
 
 		boolean last_assignable = false;
 		boolean last_id = true;
 		while (true) {
+			start = _tokens.start();
+			end = _tokens.end();
 			if (acceptOptional(TokenType.dot)){
+				int nameStart = _tokens.start();
+				int nameEnd = _tokens.end();
 				accept(TokenType.id);
+				ref = _ast.add(NodeKind.FieldRef, nameStart, nameEnd, ref);
 				last_assignable = true;
 				last_id = true;
 				continue;
 			}
 			if (acceptOptional(TokenType.lsquare)){
-				Token c = _currentToken;
+				int c = _tokens.index();
 				if (!acceptOptional(TokenType.rsquare)){
 					if (type == TYPE){
 						//uh-oh, two overconstraints
-						err(new SyntaxError("Invalid type or reference; Types cannot evaluate expressions in brackets. Expected ']', received " + c));
+						err(new SyntaxError("Invalid type or reference; Types cannot evaluate expressions in brackets. Expected ']', received " + _tokens.token(c), _tokens.token(c)));
 					}
 					type = REFERENCE;
-					parseExpression();
+					int index = parseExpression();
 					accept(TokenType.rsquare);
+					ref = _ast.add(NodeKind.IndexRef, start, end, ref, index);
 					if (Compiler.IS_MINI){
+						_reference = ref;
 						return REFERENCE; //can't have more than one level of depth in miniJava;
 					}
 				} else {
 					if (type == REFERENCE){
 						//uh-oh two overconstraints
-						err(new SyntaxError("Invalid type or reference; Expected expression after '['', found " + c));
-					}
-					while (acceptOptional(TokenType.lsquare)){
-						accept(TokenType.rsquare);
+						err(new SyntaxError("Invalid type or reference; Expected expression after '['', found " + _tokens.token(c), _tokens.token(c)));
 					}
+					ref = _ast.add(NodeKind.ArrayType, start, _previousEnd, asType(ref));
+					_reference = parseArrayBrackets(ref);
 					return TYPE;
 				}
 				last_assignable = true;
@@ -398,12 +720,15 @@ public class Parser {
 				continue;
 			}
 			if (!Compiler.IS_MINI && acceptOptional(TokenType.lchevron)){
-				if (type == REFERENCE){ 
+				if (type == REFERENCE){
 					err(new SyntaxError("Generics syntax not allowed in reference, only in type"));
 				}
 				type = TYPE;
-				parseType();
+				int nameStart = qualifiedStart(ref);
+				int nameEnd = _ast.end(ref);
+				int argument = parseType();
 				accept(TokenType.rchevron);
+				ref = _ast.add(NodeKind.ClassType, nameStart, nameEnd, argument);
 				last_assignable = false;
 				last_id = false; //pretty sure you can't call id<type>()
 				continue;
@@ -417,14 +742,18 @@ public class Parser {
 					err(new SyntaxError("Unexpected Token '('; only method identifiers can be called as functions"));
 				}
 				type = REFERENCE;
+				int mark = _ast.mark();
+				_ast.push(ref);
 				if (!acceptOptional(TokenType.rparen)){
 					do {
-						if (_currentToken.getTokenType() == TokenType.rparen) break; //allow trailing comma
-						parseExpression();
+						if (_tokens.type() == TokenType.rparen) break; //allow trailing comma
+						_ast.push(parseExpression());
 					} while (acceptOptional(TokenType.comma));
 					accept(TokenType.rparen);
 				}
+				ref = _ast.addList(NodeKind.CallExpr, start, end, mark);
 				if (Compiler.IS_MINI){
+					_reference = ref;
 					return REFERENCE_UNASSIGNABLE;
 				}
 				last_assignable = false;
@@ -433,140 +762,253 @@ public class Parser {
 			}
 			break;
 		}
+		_reference = ref;
 		if (!last_assignable && type == REFERENCE){
 			return REFERENCE_UNASSIGNABLE;
 		}
-		return type;		
+		return type;
 	}
 
+	// The type named by a reference that turned out to be a type, like the a.b.C of "a.b.C x = ..."
+	private int asType(int ref){
+		switch (_ast.kind(ref)){
+			case IdRef:
+			case ThisRef:
+			case FieldRef:
+				return _ast.add(NodeKind.ClassType, qualifiedStart(ref), _ast.end(ref));
+			default:
+				return ref; //already a type
+		}
+	}
 
+	// start of the first name of a (possibly qualified) name reference
+	private int qualifiedStart(int ref){
+		while (_ast.kind(ref) == NodeKind.FieldRef){
+			ref = _ast.child(ref, 0);
+		}
+		return _ast.start(ref);
+	}
 
-	private void parseType(){
-		parseType(true);
+
+
+	private int parseType(){
+		return parseType(true);
 	}
 
-	private void parseType(boolean allow_array){
+	private int parseType(boolean allow_array){
 		boolean isPrimitive = false;
-		Token _base_token = _currentToken;
-		if (acceptAnyOptional(Token.primitives.values())){
+		TokenType baseType = _tokens.type();
+		int start = _tokens.start();
+		int end = _tokens.end();
+		int type;
+		if (acceptAnyOptional(Token.primitiveTypes)){
 			isPrimitive = true;
+			type = _ast.add(NodeKind.PrimitiveType, start, end);
 		} else {
 			accept(TokenType.id);
-		}
-		if (!isPrimitive){
+			int mark = _ast.mark();
 			while (true){
 				if (acceptOptional(TokenType.dot)){
 					accept(TokenType.id);
+					end = _previousEnd;
 					continue;
 				}
 				if (!Compiler.IS_MINI && acceptOptional(TokenType.lchevron)){
 					if (!acceptOptional(TokenType.rchevron)) {// allow for anonymous generics
-						parseType();
+						_ast.push(parseType());
 						accept(TokenType.rchevron);
 					}
 					continue;
 				}
 				break;
 			}
+			type = _ast.addList(NodeKind.ClassType, start, end, mark);
 		}
 
-		if (isPrimitive && miniJava.Compiler.IS_MINI && _base_token.getTokenType() == TokenType.boolPrimitive){
+		if (isPrimitive && miniJava.Compiler.IS_MINI && baseType == TokenType.boolPrimitive){
 			allow_array = false; //mini only: non-int[] arrays not allowed
 		}
-		
+
 		// System.out.println();
-		// System.out.println("Parsing type: " + _base_token.getTokenType());
+		// System.out.println("Parsing type: " + baseType);
 		if (allow_array){
-			while (acceptOptional(TokenType.lsquare)){
-				accept(TokenType.rsquare);
-			}
+			type = parseArrayBrackets(type);
 		}
+		return type;
 	}
 
+	// Type ([ ])*, each pair of brackets wrapping the type so far in an ArrayType
+	private int parseArrayBrackets(int type) throws SyntaxError {
+		while (_tokens.type() == TokenType.lsquare){
+			int start = _tokens.start();
+			advance();
+			accept(TokenType.rsquare);
+			type = _ast.add(NodeKind.ArrayType, start, _previousEnd, type);
+		}
+		return type;
+	}
 
-	private int acceptListOf(TokenType ...t){
-		accept(t);
-		int i = 1;
-		while (acceptOptional(TokenType.comma)){
-			i++;
-			accept(t);
+	// LL(k) decisions, made on the types of the next few tokens before consuming any of them.
+	//  A declaration starts with a primitive type, or with a name followed by an identifier or by "[ ]";
+	//  where a name is too long to see past within TokenRing.MAX_PEEK tokens, parseTypeOrReference decides as it goes.
+	private boolean declarationAhead(){
+		if (at(Token.primitiveTypes)){
+			return true;
 		}
-		return i;
+		int k = nameAhead();
+		return k > 0 && (_tokens.peek(k) == TokenType.id || arrayBracketsAhead(k));
 	}
 
+	// a type where an expression should be: a primitive type, or a name followed by "[ ]"
+	private boolean typeAhead(){
+		return at(Token.primitiveTypes) || arrayBracketsAhead(nameAhead());
+	}
+
+	// number of tokens of the name id(.id)* starting at the current token (0 if there is none); the token after it is peek(k)
+	private int nameAhead(){
+		if (_tokens.type() != TokenType.id){
+			return 0;
+		}
+		int k = 1;
+		while (k + 2 <= TokenRing.MAX_PEEK && _tokens.peek(k) == TokenType.dot && _tokens.peek(k + 1) == TokenType.id){
+			k += 2;
+		}
+		return k;
+	}
 
+	private boolean arrayBracketsAhead(int k){
+		return k > 0 && k + 1 <= TokenRing.MAX_PEEK && _tokens.peek(k) == TokenType.lsquare && _tokens.peek(k + 1) == TokenType.rsquare;
+	}
 
+	// a Token for an error message about a token already passed, from its saved type and source range
+	private Token token(TokenType type, int start, int end){
+		SourceBuffer source = _tokens.source();
+		return new Token(type, source.text(start, end), start, source.lines());
+	}
 
-	private boolean acceptAnyOptional(Iterable<TokenType> types){
-		//unlike acceptOptional, will only accept one of the types
-		for (TokenType t : types){
-			if (acceptOptional(t)){
-				return true;
-			}
+	// creates a node without children for the current token, and moves past it
+	private int leaf(NodeKind kind){
+		int node = _ast.add(kind, _tokens.start(), _tokens.end());
+		advance();
+		return node;
+	}
+
+	private void pend(int value){
+		if (_pendingSize == _pending.length){
+			_pending = Arrays.copyOf(_pending, _pendingSize * 2);
 		}
-		return false;
+		_pending[_pendingSize++] = value;
 	}
-	private boolean acceptAnyOptional(TokenType ...types){
-		return acceptAnyOptional(() -> Arrays.stream(types).iterator());
+
+	private void advance(){
+		_previousEnd = _tokens.end();
+		_tokens.advance();
 	}
 
 
 
-	private boolean acceptOptional(TokenType expectedType) {
-		if (_currentToken.getTokenType() == expectedType){
-			_currentToken = _scanner.scan();
+
+
+	// Decision points test the current token against a TokenType set (a bitmask, see Token.typeSet) with a single bit test
+	private static final long REFERENCE_START = Token.typeSet(Arrays.asList(TokenType.id, TokenType.thisKeyword));
+	private static final long JUMP_KEYWORDS = Token.typeSet(Arrays.asList(TokenType.breakKeyword, TokenType.continueKeyword));
+	private static final long MEMBER_START = Token.typeSet(Arrays.asList(TokenType.protection, TokenType.modifier, TokenType.voidKeyword));
+
+	private boolean at(long types){
+		return (types & Token.bit(_tokens.type())) != 0;
+	}
+
+	private boolean acceptAnyOptional(long types){
+		//unlike acceptOptional, will only accept one of the types
+		if (at(types)){
+			advance();
 			return true;
 		}
 		return false;
 	}
-	private void acceptOptional(TokenType ...expectedType) {
-		for (TokenType t : expectedType){
-			acceptOptional(t);
-		}
-	}
-
-
 
-	private void acceptAny(TokenType ...types) throws SyntaxError {
-		acceptAny(() -> Arrays.stream(types).iterator());
+	private boolean acceptOptional(TokenType expectedType) {
+		if (_tokens.type() == expectedType){
+			advance();
+			return true;
+		}
+		return false;
 	}
 
-	private void acceptAny(Iterable<TokenType> tokens) throws SyntaxError {
-		ArrayList<TokenType> ts = new ArrayList<>();
-		for (TokenType t : tokens){
-			ts.add(t);
-			if (_currentToken.getTokenType() == t){
-				_currentToken = _scanner.scan();
-				return;
-			}
+	private void acceptAny(long types) throws SyntaxError {
+		if (at(types)){
+			advance();
+			return;
 		}
-		String tokenString = null;
-		for (TokenType t : tokens){
-			if (tokenString == null){
-				tokenString = "";
-			} else {
-				tokenString += ", ";
+		//only build the list of expected types for the error message
+		StringBuilder tokenString = new StringBuilder();
+		for (TokenType t : TokenType.values()){
+			if ((types & Token.bit(t)) != 0){
+				if (tokenString.length() > 0){
+					tokenString.append(", ");
+				}
+				tokenString.append(t);
 			}
-			tokenString += t;
 		}
-
-		err(new SyntaxError("Unexpected Token: " + _currentToken + " does not match any of expected types " + 
+		err(new SyntaxError("Unexpected Token: " + _tokens.token() + " does not match any of expected types " + 
 						tokenString));
 	}
 
 	// This method will accept the token and retrieve the next token.
 	//  Can be useful if you want to error check and accept all-in-one.
 	private void accept(TokenType expectedType) throws SyntaxError {
-		if( _currentToken.getTokenType() == expectedType ) {
-			_currentToken = _scanner.scan();
+		if( _tokens.type() == expectedType ) {
+			advance();
 			return;
 		}
-		err(new SyntaxError("Unexpected Token: " + _currentToken + " is not of type " + expectedType));
+		err(new SyntaxError("Unexpected Token: " + _tokens.token() + " is not of type " + expectedType));
 	}
 
-	private void accept(TokenType ...expectedType) throws SyntaxError {
-		for (TokenType t : expectedType){
-			accept(t);
+	// Panic-mode error recovery: after a syntax error, skip ahead to a point where parsing can resume at the given level,
+	//  so that one pass reports every independent error instead of just the first.
+	//   statement: after the next ';', or before the '}' closing the enclosing block
+	//   member:    after the next ';' or the '}' closing a method body, or before the next protection/modifier/void or the '}' closing the class
+	//   class:     before the next 'class'
+	//  Anything a level can't recover from (end of input, or a 'class' keyword inside a class) is rethrown to the level above,
+	//  as is every error once the ErrorReporter's error limit has been reached.
+	private static final int SYNC_STATEMENT = 0;
+	private static final int SYNC_MEMBER = 1;
+	private static final int SYNC_CLASS = 2;
+	private void synchronize(SyntaxError e, int level) throws SyntaxError {
+		if (_errors.limitReached()){
+			throw e;
+		}
+		int depth = 0;
+		while (true){
+			TokenType type = _tokens.type();
+			if (type == TokenType.EOT || type == TokenType.classKeyword){
+				if (level != SYNC_CLASS){
+					throw e;
+				}
+				return;
+			}
+			if (level == SYNC_CLASS){
+				advance();
+				continue;
+			}
+			if (type == TokenType.lcurly){
+				depth++;
+			} else if (type == TokenType.rcurly){
+				if (depth == 0){
+					return;
+				}
+				depth--;
+				if (depth == 0 && level == SYNC_MEMBER){
+					advance();
+					return;
+				}
+			} else if (type == TokenType.semicolon && depth == 0){
+				advance();
+				return;
+			} else if (level == SYNC_MEMBER && depth == 0 && (MEMBER_START & Token.bit(type)) != 0){
+				return;
+			}
+			advance();
 		}
 	}
 
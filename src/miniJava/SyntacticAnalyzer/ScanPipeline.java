@@ -0,0 +1,283 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import miniJava.CompilerError;
+import miniJava.ErrorReporter;
+
+// Scans a source on a thread of its own while the Parser parses it, instead of the two taking turns on one core
+//  (see Compiler -pipeline). The scanning thread fills batches of BATCH tokens and publishes them through a ring of
+//  SLOTS batches, which it only writes and the Parser's thread only reads: each side moves one counter, so neither locks,
+//  and a side that gets ahead spins briefly and then parks until the other catches up. Memory is that of the ring,
+//  whatever the length of the source.
+//
+// The Parser reads through a TokenRing, which takes each token from the batches as a Scanner would scan it.
+//  The scanner's errors travel in the batches with the token they were reported before, and are reported to the file's
+//  ErrorReporter as that token reaches the TokenRing: the errors of both sides, and the error limit, come out
+//  exactly as they do when the Parser calls the Scanner itself.
+//
+// The source is read in full first, so the scanning thread only ever reads it; it locates its errors with a LineIndex
+//  of its own, as a LineIndex is not safe to share. close() stops the thread if parsing ends before the input does.
+//
+// It only pays with a core to spare for each side, and a file big enough to cover starting the thread (see worthwhile).
+public class ScanPipeline implements Closeable {
+	static final int BATCH = 1024;
+	static final int SLOTS = 8; //a power of two
+	public static final long MIN_SIZE = 1 << 18; //smallest file worth a thread of its own
+	private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+	//times a side checks the other before parking; on one core, the other side cannot run until this one parks
+	private static final int SPINS = PROCESSORS > 1 ? 1 << 10 : 0;
+
+	private static final TokenType[] TYPES = TokenType.values();
+
+	// one slot of the ring: tokens as in a TokenRing, and the errors reported before them
+	static class Batch implements TokenSink {
+		byte[] types = new byte[BATCH];
+		int[] starts = new int[BATCH];
+		int[] ends = new int[BATCH];
+		int size;
+		List<CompilerError> errors = new ArrayList<>();
+		int[] errorsBefore = new int[4]; //the token each error came before
+		Throwable failure; //what the scanning thread failed with after the tokens, if it did
+
+		// Called by the Scanner with each token it scans
+		@Override
+		public void add(TokenType type, int start, int end){
+			types[size] = (byte)type.ordinal();
+			starts[size] = start;
+			ends[size] = end;
+			size++;
+		}
+
+		void error(CompilerError e){
+			int n = errors.size();
+			if (n == errorsBefore.length){
+				errorsBefore = Arrays.copyOf(errorsBefore, n * 2);
+			}
+			errorsBefore[n] = size;
+			errors.add(e);
+		}
+
+		void clear(){
+			size = 0;
+			errors.clear();
+		}
+	}
+
+	private final Batch[] _ring = new Batch[SLOTS];
+	private volatile long _published = 0; //batches published so far; written by the scanning thread only
+	private volatile long _consumed = 0; //batches done with so far; written by the Parser's thread only
+	private volatile boolean _scannerParked, _parserParked;
+	private volatile boolean _closed;
+
+	private SourceBuffer _source;
+	private ErrorReporter _errors;
+	private Scanner _scanner;
+	private Thread _thread;
+	private Thread _parser; //the thread reading, for unpark
+	private boolean _cursor;
+
+	// where the Parser's thread is reading
+	private Batch _batch;
+	private int _next; //next token of _batch
+	private int _nextError; //next error of _batch
+	private int _tokens = 0;
+
+	// whether scanning a file of size bytes on a thread of its own can make it faster
+	public static boolean worthwhile(long size){
+		return size >= MIN_SIZE && PROCESSORS > 1;
+	}
+
+	// Reads all of source and starts scanning it; the scanner errors are reported to errors as the cursor reaches them
+	public static ScanPipeline start(SourceBuffer source, ErrorReporter errors) throws IOException {
+		source.readAll();
+		return new ScanPipeline(source, errors);
+	}
+
+	private ScanPipeline(SourceBuffer source, ErrorReporter errors){
+		this._source = source;
+		this._errors = errors;
+		for (int i = 0; i < SLOTS; i++){
+			_ring[i] = new Batch();
+		}
+		this._scanner = new Scanner(new View(source), new ErrorReporter(){
+			@Override
+			public void reportError(CompilerError e){
+				//into the batch being filled, which only the scanning thread touches until it is published
+				_ring[(int)(_published & (SLOTS - 1))].error(e);
+			}
+		});
+		this._thread = new Thread(this::scan, "miniJava scanner: " + source.getName());
+		_thread.setDaemon(true);
+		_thread.start();
+	}
+
+	// The Parser's cursor over the tokens; there can only be one, read on one thread.
+	//  If the scanning thread fails, the cursor throws what it failed with once it reaches that point.
+	public TokenCursor cursor(){
+		if (_cursor){
+			throw new IllegalStateException("a pipeline can only be read once");
+		}
+		_cursor = true;
+		_parser = Thread.currentThread();
+		return new TokenRing(this);
+	}
+
+	public SourceBuffer source(){
+		return _source;
+	}
+
+	// number of tokens read so far
+	public int tokenCount(){
+		return _tokens;
+	}
+
+	// The scanning thread: fills the slot after the last published, and publishes it when it is full or holds EOT
+	private void scan(){
+		TokenType type;
+		do {
+			//the slot is free once the Parser's thread is done with the batch SLOTS before it
+			long published = _published;
+			int spins = 0;
+			while (published - _consumed == SLOTS){
+				if (_closed){
+					return;
+				}
+				if (++spins < SPINS){
+					Thread.onSpinWait();
+				} else {
+					_scannerParked = true;
+					if (published - _consumed == SLOTS && !_closed){
+						LockSupport.park(this);
+					}
+					_scannerParked = false;
+				}
+			}
+			//empty: cleared when the Parser's thread gave it back, and before that it was new. It is not cleared here, as
+			// the Scanner's constructor already reported any error at the first character into the first slot.
+			Batch b = _ring[(int)(published & (SLOTS - 1))];
+			try {
+				do {
+					type = _scanner.scanInto(b);
+				} while (b.size < BATCH && type != TokenType.EOT);
+			} catch (RuntimeException | Error e){
+				b.failure = e;
+				publish();
+				return;
+			}
+			publish();
+		} while (type != TokenType.EOT && !_closed);
+	}
+
+	private void publish(){
+		_published++;
+		if (_parserParked){
+			LockSupport.unpark(_parser);
+		}
+	}
+
+	// Reads the next token into ring, reporting the scanner errors before it to the file's ErrorReporter
+	TokenType readInto(TokenRing ring){
+		Batch b = _batch;
+		while (b == null || _next == b.size){
+			b = nextBatch();
+		}
+		while (_nextError < b.errors.size() && b.errorsBefore[_nextError] == _next){
+			_errors.reportError(b.errors.get(_nextError++));
+		}
+		int i = _next++;
+		TokenType type = TYPES[b.types[i]];
+		ring.add(type, b.starts[i], b.ends[i]);
+		_tokens++;
+		return type;
+	}
+
+	// Gives the current batch back to the scanning thread and waits for the next one
+	private Batch nextBatch(){
+		if (_batch != null && _batch.failure != null){
+			Throwable failure = _batch.failure;
+			if (failure instanceof Error){
+				throw (Error)failure;
+			}
+			throw (RuntimeException)failure;
+		}
+		if (_batch != null){
+			_batch.clear();
+			_batch = null;
+			_consumed++;
+			if (_scannerParked){
+				LockSupport.unpark(_thread);
+			}
+		}
+		long consumed = _consumed;
+		int spins = 0;
+		while (_published == consumed){
+			if (++spins < SPINS){
+				Thread.onSpinWait();
+			} else {
+				_parserParked = true;
+				if (_published == consumed){
+					LockSupport.park(this);
+				}
+				_parserParked = false;
+			}
+		}
+		Batch b = _ring[(int)(consumed & (SLOTS - 1))];
+		_batch = b;
+		_next = 0;
+		_nextError = 0;
+		return b;
+	}
+
+	// Stops the scanning thread, if it is still running, and waits for it
+	@Override
+	public void close(){
+		_closed = true;
+		LockSupport.unpark(_thread);
+		try {
+			_thread.join();
+		} catch (InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// The scanning thread's view of the source: the same bytes, but its own LineIndex
+	private static class View extends SourceBuffer {
+		private SourceBuffer _source;
+
+		View(SourceBuffer source){
+			this._source = source;
+			setName(source.getName());
+		}
+
+		@Override
+		public int byteAt(int offset) throws IOException {
+			return _source.byteAt(offset);
+		}
+
+		@Override
+		public int indexOfOrNonAscii(int from, byte a, byte b) throws IOException {
+			return _source.indexOfOrNonAscii(from, a, b);
+		}
+
+		@Override
+		public byte get(int offset){
+			return _source.get(offset);
+		}
+
+		@Override
+		public int available(){
+			return _source.available();
+		}
+
+		@Override
+		public void getBytes(int offset, byte[] dst, int dstOffset, int len){
+			_source.getBytes(offset, dst, dstOffset, len);
+		}
+	}
+}
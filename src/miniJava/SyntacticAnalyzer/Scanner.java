@@ -9,25 +9,144 @@ import java.util.HashSet;
 import miniJava.Compiler;
 import miniJava.CompilerError;
 import miniJava.ErrorReporter;
+import miniJava.Events.ScanBatchEvent;
 
 public class Scanner {
-	private InputStream _in;
+	private SourceBuffer _in;
 	private ErrorReporter _errors;
-	private StringBuilder _currentText;
-	private char _currentChar;
-	private int _startLine,_startCol;
-	private int _currentLine = 1;
-	private int _currentCol = 0;
+	private int _currentChar; //code point decoded from UTF-8, 0 at the end of input
+	private int _pos = -1; //offset of _currentChar
+	private int _next; //offset of the character after it
+	private int _malformedAt = -1; //offset of the last invalid UTF-8 sequence, reported when it was decoded
+	private int _start, _end; //the current token's text is [_start,_end) of the source
+	private SourceText _currentText;
+
+	// tokens are reported to Flight Recorder in batches of EVENT_BATCH (see ScanBatchEvent)
+	public static final int EVENT_BATCH = 4096;
+	private ScanBatchEvent _batch; //null while not recording
+	private int _batchLeft; //tokens until the current batch ends
+	private int _batchStart;
+
+	// time spent in scanInto, and tokens it scanned, if timed (see timeScanning)
+	private static final int TIMING_SAMPLE = 8; //a power of two; one token in this many is timed
+	private boolean _timed;
+	private long _scanNanos;
+	private int _scanned;
 
 	public Scanner( InputStream in, ErrorReporter errors ) {
+		this(new BlockSourceBuffer(in), errors);
+	}
+
+	public Scanner( SourceBuffer in, ErrorReporter errors ) {
+		this(in, errors, 0);
+	}
+
+	// Scanner that starts at offset instead of the beginning of the input; offset must not be inside a token or comment
+	public Scanner( SourceBuffer in, ErrorReporter errors, int offset ) {
 		this._in = in;
 		this._errors = errors;
-		clearText();
+		this._currentText = new SourceText(in, 0, 0);
+		this._next = offset;
 		
 		nextChar();
+		clearText();
+		startBatch(offset);
+	}
+
+	public SourceBuffer source() {
+		return _in;
 	}
 	
 	public Token scan() {
+		TokenType type = scanType();
+		if (--_batchLeft == 0 || type == TokenType.EOT){
+			nextBatch();
+		}
+		Token t = new Token(type,_in.text(_start,_end),_start,_in.lines());
+		clearText();
+		return t;
+	}
+
+	// Scans the next token straight into store, without creating a Token object
+	public TokenType scanInto(TokenStore store) {
+		return scanInto((TokenSink)store);
+	}
+
+	// Scans the next token into sink: a TokenStore, a TokenRing reading ahead, a TokenFile being written,
+	//  or a batch on a ScanPipeline's scanning thread
+	TokenType scanInto(TokenSink sink) {
+		boolean timed = _timed && (_scanned++ & (TIMING_SAMPLE - 1)) == 0;
+		long time = timed ? System.nanoTime() : 0;
+		TokenType type = scanType();
+		if (--_batchLeft == 0 || type == TokenType.EOT){
+			nextBatch();
+		}
+		sink.add(type,_start,_end);
+		clearText();
+		if (timed){
+			_scanNanos += (System.nanoTime() - time) * TIMING_SAMPLE;
+		}
+		return type;
+	}
+
+	// Makes scanInto add up the time it takes and the tokens it scans from now on, so scanning can be timed
+	//  while the Parser pulls tokens as usual (Compiler -stats). Reading the clock around every token would cost about
+	//  as much as scanning it, so one token in TIMING_SAMPLE is timed, and scanNanos is an estimate from those.
+	public void timeScanning() {
+		_timed = true;
+	}
+
+	public long scanNanos() {
+		return _scanNanos;
+	}
+
+	public int tokensScanned() {
+		return _scanned;
+	}
+
+	// Commits the batch of tokens ending with the current one, if recording, and starts the next.
+	//  Whether events are recorded is only checked here, so a Scanner that isn't recorded pays a counter per token.
+	private void nextBatch() {
+		if (_batch != null){
+			_batch.end();
+			if (_batch.shouldCommit()){
+				_batch.source = _in.getName();
+				_batch.tokens = EVENT_BATCH - _batchLeft;
+				_batch.startOffset = _batchStart;
+				_batch.bytes = _end - _batchStart;
+				_batch.commit();
+			}
+		}
+		startBatch(_end);
+	}
+
+	private void startBatch(int start) {
+		_batchLeft = EVENT_BATCH;
+		_batchStart = start;
+		ScanBatchEvent batch = new ScanBatchEvent();
+		if (batch.isEnabled()){
+			batch.begin();
+			_batch = batch;
+		} else {
+			_batch = null;
+		}
+	}
+
+	// With tableDriven, tokens are scanned by the DFA generated from tokens.spec (see ScannerTables), giving the same tokens.
+	//  Whatever the DFA hands back is scanned by the hand-written code below: errors, the end of input,
+	//  and bytes >= 128, which the hand-written code decodes as UTF-8.
+	//  Off by default: the DFA's state-to-state dependency makes it slower than the hand-written loops over the ASCII tables.
+	public static boolean tableDriven = Boolean.getBoolean("miniJava.tableScanner");
+	private static final DfaTable TABLE = Compiler.IS_MINI ? ScannerTables.MINI : ScannerTables.FULL;
+
+	// Scans the next token and returns its type; its text is left as [_start,_end) of the source
+	private TokenType scanType() {
+		if (tableDriven){
+			TokenType type = scanTable();
+			if (type != null){
+				return type;
+			}
+		}
 		// TODO: This function should check the current char to determine what the token could be.
 		
 		// TODO: Consider what happens if the current char is whitespace or comment
@@ -39,65 +158,66 @@ public class Scanner {
 				switch (_currentChar) {
 					case '=': //assignment op /=
 						takeIt();
-						return makeToken(TokenType.assignOp);
+						return TokenType.assignOp;
 					case '/': //single-line comment, accept until newline
 						skipIt();
-						while (_currentChar != '\n' && _currentChar != 0){
-							skipIt();
-						}
+						skipToAscii((byte)'\n', (byte)0); //the end of input also ends it
 						skipIt();
 						clearText(); //remove the '/' in the current char
 						continue;
 					case '*': //multi-line comment, accept until */
 						skipIt(); // /*/ is not a complete multiline
-						char last = 0;
-						while (!(last == '*' && _currentChar == '/')){
+						int body = _pos;
+						while (true){
+							skipToAscii((byte)'/', (byte)0);
 							if (_currentChar == 0){
-								_errors.reportError(new CompilerError("Unterminated multiline comment"));
-								return makeToken(TokenType.EOT);
+								error("Unterminated multiline comment", _start, _pos);
+								return TokenType.EOT;
 							}
-							last = _currentChar;
-							skipIt();
+							if (_pos > body && _in.get(_pos - 1) == '*'){
+								break;
+							}
+							nextChar();
 						}
 						skipIt();
 						clearText(); //remove the '/' in the current char
 						continue;
 					default:
 						// valid binary operator
-						return makeToken(TokenType.binOp);
+						return TokenType.binOp;
 				}
 			} else { //no more reason to loop, next character *must* return a token of some sort
 				break;
 			}
 		}
 
-		if (Token.opstarts.contains(_currentChar)){
-			char c = _currentChar;
+		if (is(_currentChar, Token.OPSTART)){
+			int c = _currentChar;
 			takeIt(); //we know this will be a token, accept
 			//do operator parsing
 			if (c == '='){
 				//two options: assignment and ==
 				if (_currentChar == '='){
 					takeIt();
-					return makeToken(TokenType.compOp);
+					return TokenType.compOp;
 				} else {
-					return makeToken(TokenType.assignment);
+					return TokenType.assignment;
 				}
 			}
 
 			//+=, -=, etc
-			if (Token.assignOps.contains(c) && _currentChar == '='){
+			if (is(c, Token.ASSIGNOP) && _currentChar == '='){
 				takeIt();
-				return makeToken(TokenType.assignOp);
+				return TokenType.assignOp;
 			}
 
 			//plus and minus 
-			if (Token.dualOps.contains(c)){
+			if (is(c, Token.DUALOP)){
 				if (_currentChar == c){  //++, --
 					takeIt();
-					return makeToken(TokenType.incOp); //special op because can go before or after
+					return TokenType.incOp; //special op because can go before or after
 				} else {
-					return makeToken(TokenType.genOp);
+					return TokenType.genOp;
 				}
 			}
 			
@@ -105,20 +225,20 @@ public class Scanner {
 				case '!':
 					if (_currentChar == '='){
 						takeIt();
-						return makeToken(TokenType.compOp);
+						return TokenType.compOp;
 					} else {
-						return makeToken(TokenType.unOp);
+						return TokenType.unOp;
 					}
 				case '>':
 				case '<':
 					if (_currentChar == '='){
 						takeIt();
-						return makeToken(TokenType.compOp);
+						return TokenType.compOp;
 					}
 					if (c == '>'){
-						return makeToken(TokenType.rchevron);
+						return TokenType.rchevron;
 					} else {
-						return makeToken(TokenType.lchevron);
+						return TokenType.lchevron;
 					}
 					
 				case '|':
@@ -126,182 +246,350 @@ public class Scanner {
 					if (_currentChar == c){
 						takeIt();
 					}
-					return makeToken(TokenType.binOp);
+					return TokenType.binOp;
 				default: // *,/
 					takeIt();
-					return makeToken(TokenType.binOp);
+					return TokenType.binOp;
 			}
 		}
 		
 		// identifiers and keywords
 		
-		if (Character.isJavaIdentifierStart(_currentChar)){ //how convenient, there's already a function for it
-			if (!Compiler.IS_MINI || (Character.isLetter(_currentChar) || Character.getType(_currentChar) == Character.LETTER_NUMBER)){
-				//start reading until no longer alphanumeric
-				takeIt();
-				while (Character.isJavaIdentifierPart(_currentChar)){ takeIt(); }
-				String text = _currentText.toString();
-				if (Token.keywords.containsKey(text)){
-					return makeToken(Token.keywords.get(text));
-				} else if (Token.primitives.containsKey(text)) {
-					return makeToken(Token.primitives.get(text));
-				} else if (Token.protectionKeywords.contains(text)) {
-					return makeToken(TokenType.protection);
-				} else if (Token.modifierKeywords.contains(text)) {
-					return makeToken(TokenType.modifier);
-				} else {
-					return makeToken(TokenType.id);
+		if (is(_currentChar, Token.IDENT_START)){
+			//start reading until no longer alphanumeric
+			boolean ascii = _currentChar < 128;
+			takeIt();
+			while (true){
+				takeAsciiIdentPart();
+				if (!is(_currentChar, Token.IDENT_PART)){
+					break;
 				}
+				ascii &= _currentChar < 128;
+				takeIt();
+			}
+			if (!ascii){
+				return TokenType.id; //reserved words are ASCII
 			}
+			_currentText.resetAscii(_start, _end);
+			TokenType reserved = Token.reservedWord(_currentText);
+			return reserved != null ? reserved : TokenType.id;
 		}
 
 		//literal parsing
 
 		//numeric literal
-		if (Character.isDigit(_currentChar)){
-			while (Character.isDigit(_currentChar)){
+		if (is(_currentChar, Token.DIGIT)){
+			while (is(_currentChar, Token.DIGIT)){
 				takeIt();
 			}
-			if (!Character.isAlphabetic(_currentChar) && !(_currentChar == '_')){
-				return makeToken(TokenType.intLiteral);
+			if (!is(_currentChar, Token.ALPHABETIC) && !(_currentChar == '_')){
+				return TokenType.intLiteral;
 			}
 			else if (_currentChar != '.'){
-				this._errors.reportError(new CompilerError("Invalid character while parsing number: " + _currentChar));
+				error("Invalid character while parsing number: " + Character.toString(_currentChar), _pos, _next);
 			}
-			while (Character.isDigit(_currentChar)){
+			while (is(_currentChar, Token.DIGIT)){
 				takeIt();
 			}
 			//even if there's no characters it's still a float
-			return makeToken(TokenType.floatLiteral);
+			return TokenType.floatLiteral;
 		}
 
 		//string literal (no escape sequences)
 		if (_currentChar == '"'){
 			takeIt();
-			while (_currentChar != '"') {
-				takeIt();
+			skipToAscii((byte)'"', (byte)0);
+			_end = _pos;
+			if (_currentChar == 0){
+				error("Unterminated String literal", _start, _pos);
+				return TokenType.stringLiteral;
 			}
 			takeIt();
-			return makeToken(TokenType.stringLiteral);
+			return TokenType.stringLiteral;
 		}
 
 		//char literal (no escape sequences)
 		if (_currentChar == '\''){
-			takeIt();
-			if (_currentChar == '\''){
-				this._errors.reportError(new CompilerError("Invalid Character literal: cannot be empty"));
-				takeIt();
-				return makeToken(TokenType.charLiteral);
-			}
-			takeIt();
-			if (_currentChar != '\''){
-				while (_currentChar != '\''){
-					if (_currentChar == '\n'){
-						this._errors.reportError(new CompilerError("Unterminated Character literal"));
-						return makeToken(TokenType.charLiteral);
-					} else {
-						takeIt();
-					}
-				}
-				takeIt();
-				this._errors.reportError(new CompilerError("Invalid Character literal: too long must be no longer than one character"));
-				return makeToken(TokenType.charLiteral);
-			} else {
-				takeIt();
-				return makeToken(TokenType.charLiteral);
-			}
+			return scanCharLiteral();
 		}
 
 		//punctuation
 		if (_currentChar == '.' && !Compiler.IS_MINI){ //check for ellipsis for variadic type args
 			takeIt();
 			if (_currentChar != '.'){
-				return makeToken(TokenType.dot);
+				return TokenType.dot;
 			}
 			takeIt();
 			if (_currentChar != '.'){
-				this._errors.reportError(new CompilerError("Invalid punctuation: .."));
-				return makeToken(TokenType.EOT); //mom I'm scared
+				error("Invalid punctuation: ..", _start, _end);
+				return TokenType.EOT; //mom I'm scared
 			}
 			takeIt();
-			return makeToken(TokenType.ellipsis);
+			return TokenType.ellipsis;
 
-		} else	if (Token.punctuation.containsKey(_currentChar)){
-			TokenType token = Token.punctuation.get(_currentChar);
-			takeIt();
-			return makeToken(token);
+		} else {
+			TokenType token = _currentChar < 128 ? Token.asciiPunctuation[_currentChar]
+					: _currentChar <= Character.MAX_VALUE ? Token.punctuation.get((char)_currentChar) : null;
+			if (token != null){
+				takeIt();
+				return token;
+			}
 		}
 
 		// TODO: Determine what the token is. For example, if it is a number
 		//  keep calling takeIt() until _currentChar is not a number. Then
-		//  create the token via makeToken(TokenType.IntegerLiteral) and return it.
+		//  return TokenType.IntegerLiteral.
 		
 		
 		// TODO: What happens if there are no more tokens?
 		if (_currentChar == 0){
-			return makeToken(TokenType.EOT);
+			return TokenType.EOT;
 		}
 
-		//REACHED HERE: unknown token!
-		_errors.reportError(new CompilerError("Invalid character " + _currentChar + " encountered while scanning"));
+		//REACHED HERE: unknown token! (an invalid UTF-8 sequence has been reported already)
+		if (_malformedAt != _pos){
+			error("Invalid character " + Character.toString(_currentChar) + " encountered while scanning", _pos, _next);
+		}
 		skipIt();
-		return scan();
+		return scanType();
 	}
 
+	private static final TokenType[] TYPES = TokenType.values();
+
+	// Runs the DFA from _pos, skipping whitespace and comments, and returns the type of the token it ends on.
+	//  Returns null, with the Scanner at the start of the token, where the hand-written Scanner has to take over:
+	//  the DFA stopped in a state with no token (it would have to back up), on an error token, or on a byte >= 128.
+	private TokenType scanTable() {
+		byte[] classes = TABLE.classes;
+		int[] transitions = TABLE.transitions;
+		int[] accepts = TABLE.accepts;
+		int shift = TABLE.shift;
+		int start = _pos;
+		int p = start;
+		int limit = _in.available();
+		int state = 0;
+		while (true){
+			int c;
+			if (p < limit){
+				c = _in.get(p) & 0xff;
+			} else {
+				c = byteOrEnd(p);
+				limit = _in.available();
+			}
+			int cls = classes[c];
+			int next = transitions[state + cls];
+			if (next != DfaTable.DEAD){
+				state = next;
+				p++;
+				continue;
+			}
+			int action = accepts[state >> shift];
+			if (action == DfaTable.SKIP){
+				start = p;
+				state = 0;
+				continue;
+			}
+			if (action < 0 || cls == TABLE.highClass){
+				break;
+			}
+			_start = start;
+			_end = p;
+			_pos = p;
+			_next = p + 1;
+			_currentChar = c; //ASCII: the DFA hands back bytes >= 128
+			return TYPES[action];
+		}
+		moveTo(start); //a character already decoded (and any error in it reported) is not decoded again
+		clearText();
+		return null;
+	}
+
+	// byte at offset, reading more input if needed, or 0 at the end of input (or if it can't be read)
+	private int byteOrEnd(int offset){
+		try {
+			return Math.max(_in.byteAt(offset), 0);
+		} catch (IOException e){
+			return 0;
+		}
+	}
+
+	// reports an error in the source span [start,end)
+	private void error(String message, int start, int end){
+		LineIndex lines = _in.lines();
+		_errors.reportError(new CompilerError(message, _in.getName(), lines.line(start), lines.col(start), start, end));
+	}
+
+	// Skips the ASCII whitespace among the bytes already read in a loop over the buffer, moving to the first byte after it
+	//  in one step; whitespace beyond those, or outside of ASCII, is skipped a character at a time
 	private void skipWhitespace(){
-		while (Character.isWhitespace(_currentChar)){
+		int pos = _pos;
+		int limit = _in.available();
+		while (pos < limit){
+			byte c = _in.get(pos);
+			if (c < 0 || (Token.asciiClasses[c] & Token.WHITESPACE) == 0){
+				break;
+			}
+			pos++;
+		}
+		if (pos != _pos){
+			moveTo(pos);
+			_start = _end = _pos;
+		}
+		while (is(_currentChar, Token.WHITESPACE)){
 			skipIt();
 		}
 	}
+
+	// Scans a char literal from its opening quote; out of scanType, whose size limits how much the JIT inlines into it
+	private TokenType scanCharLiteral() {
+		takeIt();
+		if (_currentChar == '\''){
+			error("Invalid Character literal: cannot be empty", _start, _pos + 1);
+			takeIt();
+			return TokenType.charLiteral;
+		}
+		int content = _currentChar;
+		takeIt();
+		if (content > Character.MAX_VALUE && _currentChar == '\''){ //two chars in UTF-16
+			takeIt();
+			error("Invalid Character literal: " + Character.toString(content) + " does not fit in a char", _start, _end);
+			return TokenType.charLiteral;
+		}
+		if (_currentChar != '\''){
+			while (_currentChar != '\''){
+				if (_currentChar == '\n' || _currentChar == 0){
+					error("Unterminated Character literal", _start, _pos);
+					return TokenType.charLiteral;
+				} else {
+					takeIt();
+				}
+			}
+			takeIt();
+			error("Invalid Character literal: too long must be no longer than one character", _start, _end);
+			return TokenType.charLiteral;
+		} else {
+			takeIt();
+			return TokenType.charLiteral;
+		}
+	}
+
+	// Takes the ASCII identifier characters among the bytes already read in a loop over the buffer, as skipWhitespace does
+	private void takeAsciiIdentPart(){
+		int pos = _pos;
+		int limit = _in.available();
+		while (pos < limit){
+			byte c = _in.get(pos);
+			if (c < 0 || (Token.asciiClasses[c] & Token.IDENT_PART) == 0){
+				break;
+			}
+			pos++;
+		}
+		if (pos != _pos){
+			moveTo(pos);
+			_end = _pos;
+		}
+	}
+
+	// Skips to the next a or b (or the end of input), as a run of nextChar calls would: the ASCII in between is passed over
+	//  in bulk, anything else is decoded on the way, so invalid UTF-8 is still reported
+	private void skipToAscii(byte a, byte b){
+		moveTo(find(a, b));
+		while (_currentChar >= 128){
+			nextChar();
+			moveTo(find(a, b));
+		}
+	}
+
+	// offset of the next a or b or non-ASCII byte from the current character on (see SourceBuffer.indexOfOrNonAscii),
+	//  or the end of input
+	private int find(byte a, byte b){
+		try {
+			return _in.indexOfOrNonAscii(_pos, a, b);
+		} catch (IOException e){
+			return _pos;
+		}
+	}
+
+	// moves to the character at offset, as a run of nextChar calls would have
+	private void moveTo(int offset){
+		if (offset != _pos){
+			_next = offset;
+			nextChar();
+		}
+	}
+
+	// ASCII characters are classified by table lookup; anything else falls back to the Token sets and Character methods,
+	//  in a method of its own so that the JIT inlines no more than the lookup into the scanning loops
+	private static boolean is(int c, int charClass){
+		if (c < 128){
+			return (Token.asciiClasses[c] & charClass) != 0;
+		}
+		return isNonAscii(c, charClass);
+	}
+
+	private static boolean isNonAscii(int c, int charClass){
+		switch (charClass){
+			case Token.WHITESPACE: return Character.isWhitespace(c);
+			case Token.IDENT_START: return Character.isJavaIdentifierStart(c) && (!Compiler.IS_MINI || Character.isLetter(c) || Character.getType(c) == Character.LETTER_NUMBER);
+			case Token.IDENT_PART: return Character.isJavaIdentifierPart(c);
+			case Token.DIGIT: return Character.isDigit(c);
+			case Token.ALPHABETIC: return Character.isAlphabetic(c);
+			case Token.OPSTART: return c <= Character.MAX_VALUE && Token.opstarts.contains((char)c);
+			case Token.ASSIGNOP: return c <= Character.MAX_VALUE && Token.assignOps.contains((char)c);
+			case Token.DUALOP: return c <= Character.MAX_VALUE && Token.dualOps.contains((char)c);
+			default: return false;
+		}
+	}
 	
 	private void takeIt() {
-		_currentText.append(_currentChar);
 		nextChar();
+		_end = _pos;
 	}
 	
 	private void skipIt() {
 		nextChar();
-		if (_currentText.length() == 0){ //if we haven't started grabbing tokens, move the start
-			_startCol = _currentCol;
-			_startLine = _currentLine;
+		if (_start == _end){ //if we haven't started grabbing tokens, move the start
+			_start = _end = _pos;
 		}
 	}
 	
+	// Moves to the next character. ASCII bytes are characters by themselves; anything else is decoded as UTF-8.
 	private void nextChar() {
 		try {
-			int c = _in.read();
-			_currentCol += 1;
-			if (c == '\n'){
-				_currentLine += 1;
-				_currentCol = 0;
-			}
-			_currentChar = (char)c;
-			
-			// TODO: What happens if c == -1?
-			if (c == -1) { //EOF
-				_currentChar = 0;
+			_pos = _next;
+			int c = _in.byteAt(_pos);
+			if (c < 128){
+				_currentChar = c < 0 ? 0 : c; //-1 is the end of input
+				_next = _pos + 1;
+				return;
 			}
-
-			
-			// TODO: What happens if c is not a regular ASCII character?
-			
+			decode();
 		} catch( IOException e ) {
 			// TODO: Report an error here
 		}
 	}
 
-	private void clearText(){
-		_currentText = new StringBuilder();
-		_startCol = _currentCol;
-		_startLine = _currentLine;
+	// Decodes the UTF-8 sequence at _pos into _currentChar (a code point, possibly supplementary; see Utf8).
+	//  An invalid sequence is reported, and replaced by U+FFFD.
+	private void decode() throws IOException {
+		_in.byteAt(_pos + 3); //reads as far as the longest sequence, if there is input
+		int c = Utf8.decode(_in, _pos, _in.available());
+		if (c < 0){
+			malformed(-c);
+			return;
+		}
+		_currentChar = c;
+		_next = _pos + Utf8.length(c);
 	}
-	
-	private Token makeToken( TokenType toktype ) {
-		// TODO: return a new Token with the appropriate type and text
-		//  contained in 
-		Token t = new Token(toktype,_currentText.toString(),_startLine,_startCol);
-		// System.err.println("making new token " + t);
-		clearText();
-		return t;
+
+	private void malformed(int length){
+		error("Invalid UTF-8 sequence", _pos, _pos + length);
+		_currentChar = Utf8.REPLACEMENT;
+		_next = _pos + length;
+		_malformedAt = _pos;
+	}
+
+	private void clearText(){
+		_start = _end = _pos;
 	}
 }
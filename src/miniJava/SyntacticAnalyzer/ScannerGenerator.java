@@ -0,0 +1,469 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compiles a token specification (see tokens.spec for the format) into the minimized DFAs of ScannerTables,
+//  one for each dialect: pattern -> NFA (Thompson) -> DFA (subset construction) -> minimal DFA (partition refinement).
+//
+// usage: ScannerGenerator spec output.java
+public class ScannerGenerator {
+	// input symbols: bytes 1-127 are themselves, HIGH stands for every byte >= 128. Neither HIGH nor byte 0 (end of input)
+	//  is ever matched, so the DFA stops on them.
+	private static final int HIGH = 128;
+	private static final int SYMBOLS = 129;
+
+	private Map<String,String> _definitions = new HashMap<>();
+	private List<String[]> _rules = new ArrayList<>(); //{dialect or null, action, pattern}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2){
+			System.err.println("usage: ScannerGenerator spec output.java");
+			System.exit(1);
+		}
+		ScannerGenerator generator = new ScannerGenerator();
+		generator.read(Files.readAllLines(Paths.get(args[0]), StandardCharsets.UTF_8));
+		Path output = Paths.get(args[1]);
+		try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8))){
+			out.println("// Generated by ScannerGenerator from " + Paths.get(args[0]).getFileName() + "; do not edit.");
+			out.println("package miniJava.SyntacticAnalyzer;");
+			out.println();
+			out.println("final class ScannerTables {");
+			generator.write(out, "MINI", "mini");
+			out.println();
+			generator.write(out, "FULL", "full");
+			out.println("}");
+		}
+	}
+
+	private void read(List<String> lines){
+		for (String line : lines){
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#")){
+				continue;
+			}
+			String[] words = line.split("\\s+", 3);
+			if (words.length == 3 && words[1].equals("=")){
+				_definitions.put(words[0], words[2]);
+			} else if (words[0].equals("mini") || words[0].equals("full")){
+				_rules.add(new String[]{words[0], words[1], words[2]});
+			} else {
+				_rules.add(new String[]{null, words[0], line.substring(words[0].length()).trim()});
+			}
+		}
+	}
+
+	//NFA: state i has symbol transitions on _sets[i] to _targets[i], and epsilon transitions to _epsilons[i]
+
+	private List<BitSet> _sets = new ArrayList<>();
+	private List<Integer> _targets = new ArrayList<>();
+	private List<List<Integer>> _epsilons = new ArrayList<>();
+	private List<Integer> _nfaAccepts = new ArrayList<>(); //rule index, or -1
+
+	private int newState(){
+		_sets.add(null);
+		_targets.add(-1);
+		_epsilons.add(new ArrayList<>());
+		_nfaAccepts.add(-1);
+		return _sets.size() - 1;
+	}
+
+	// Writes the DFA for one dialect as a field of ScannerTables
+	private void write(PrintWriter out, String field, String dialect){
+		_sets.clear();
+		_targets.clear();
+		_epsilons.clear();
+		_nfaAccepts.clear();
+		int nfaStart = newState();
+		List<String> actions = new ArrayList<>();
+		int[] ruleActions = new int[_rules.size()];
+		for (int r = 0; r < _rules.size(); r++){
+			String[] rule = _rules.get(r);
+			if (!actions.contains(rule[1])){
+				actions.add(rule[1]);
+			}
+			ruleActions[r] = actions.indexOf(rule[1]);
+			if (rule[0] != null && !rule[0].equals(dialect)){
+				continue;
+			}
+			int[] fragment = new PatternParser(rule[2]).parse();
+			_epsilons.get(nfaStart).add(fragment[0]);
+			_nfaAccepts.set(fragment[1], r);
+		}
+
+		//symbols that every transition treats alike form one character class
+		int[] symbolClass = new int[SYMBOLS];
+		Map<String,Integer> signatures = new LinkedHashMap<>();
+		int eofClass = 0;
+		signatures.put("eof", eofClass);
+		for (int c = 1; c < SYMBOLS; c++){
+			StringBuilder signature = new StringBuilder();
+			for (int s = 0; s < _sets.size(); s++){
+				signature.append(_sets.get(s) != null && _sets.get(s).get(c) ? '1' : '0');
+			}
+			Integer cls = signatures.get(signature.toString());
+			if (cls == null){
+				cls = signatures.size();
+				signatures.put(signature.toString(), cls);
+			}
+			symbolClass[c] = cls;
+		}
+		int classCount = signatures.size();
+		int[] representative = new int[classCount];
+		for (int c = SYMBOLS - 1; c >= 1; c--){
+			representative[symbolClass[c]] = c;
+		}
+
+		//subset construction; the action of a DFA state is that of its first rule
+		List<BitSet> dfaStates = new ArrayList<>();
+		Map<BitSet,Integer> dfaIndex = new HashMap<>();
+		List<int[]> dfaTransitions = new ArrayList<>();
+		List<Integer> dfaActions = new ArrayList<>();
+		BitSet start = closure(single(nfaStart));
+		dfaStates.add(start);
+		dfaIndex.put(start, 0);
+		for (int d = 0; d < dfaStates.size(); d++){
+			BitSet states = dfaStates.get(d);
+			int rule = Integer.MAX_VALUE;
+			for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)){
+				if (_nfaAccepts.get(s) >= 0){
+					rule = Math.min(rule, _nfaAccepts.get(s));
+				}
+			}
+			dfaActions.add(rule == Integer.MAX_VALUE ? -1 : ruleActions[rule]);
+			int[] row = new int[classCount];
+			Arrays.fill(row, -1);
+			for (int cls = 1; cls < classCount; cls++){
+				BitSet next = new BitSet();
+				for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)){
+					if (_sets.get(s) != null && _sets.get(s).get(representative[cls])){
+						next.set(_targets.get(s));
+					}
+				}
+				if (next.isEmpty()){
+					continue;
+				}
+				next = closure(next);
+				Integer target = dfaIndex.get(next);
+				if (target == null){
+					target = dfaStates.size();
+					dfaStates.add(next);
+					dfaIndex.put(next, target);
+				}
+				row[cls] = target;
+			}
+			dfaTransitions.add(row);
+		}
+
+		//minimization: split blocks of states with the same action until all states of a block agree on where each class leads
+		int n = dfaStates.size();
+		int[] block = new int[n];
+		for (int s = 0; s < n; s++){
+			block[s] = dfaActions.get(s) + 1;
+		}
+		int blocks = 0;
+		while (true){
+			Map<String,Integer> split = new HashMap<>();
+			int[] next = new int[n];
+			for (int s = 0; s < n; s++){
+				StringBuilder key = new StringBuilder().append(block[s]);
+				for (int target : dfaTransitions.get(s)){
+					key.append(',').append(target < 0 ? -1 : block[target]);
+				}
+				Integer b = split.get(key.toString());
+				if (b == null){
+					b = split.size();
+					split.put(key.toString(), b);
+				}
+				next[s] = b;
+			}
+			boolean stable = split.size() == blocks;
+			blocks = split.size();
+			block = next;
+			if (stable){
+				break;
+			}
+		}
+
+		//number the blocks breadth-first from the start state, so it is state 0
+		int[] number = new int[blocks];
+		Arrays.fill(number, -1);
+		int[] order = new int[blocks]; //a DFA state of each minimal state
+		int count = 0;
+		number[block[0]] = count;
+		order[count++] = 0;
+		for (int i = 0; i < count; i++){
+			for (int target : dfaTransitions.get(order[i])){
+				if (target >= 0 && number[block[target]] < 0){
+					number[block[target]] = count;
+					order[count++] = target;
+				}
+			}
+		}
+		if (classCount > Byte.MAX_VALUE){
+			throw new IllegalStateException("too many character classes: " + classCount);
+		}
+
+		StringBuilder classes = new StringBuilder();
+		for (int b = 0; b < 256; b++){
+			classes.append((char)(b == 0 ? eofClass : b >= HIGH ? symbolClass[HIGH] : symbolClass[b]));
+		}
+		StringBuilder transitions = new StringBuilder();
+		StringBuilder accepts = new StringBuilder();
+		for (int i = 0; i < count; i++){
+			for (int target : dfaTransitions.get(order[i])){
+				transitions.append((char)(target < 0 ? 0 : number[block[target]] + 1));
+			}
+			accepts.append((char)(dfaActions.get(order[i]) + 1));
+		}
+
+		out.println("\t// " + dialect + ": " + count + " states (" + n + " before minimization), " + classCount + " character classes");
+		out.println("\tstatic final DfaTable " + field + " = new DfaTable(");
+		out.println("\t\t" + literal(classes) + ",");
+		out.println("\t\t" + classCount + ",");
+		out.println("\t\tnew String[]{");
+		int chunk = 8192; //keeps each constant well under the class file's 64KB limit
+		for (int i = 0; i < transitions.length(); i += chunk){
+			out.println("\t\t\t" + literal(transitions.subSequence(i, Math.min(transitions.length(), i + chunk))) + ",");
+		}
+		out.println("\t\t},");
+		out.println("\t\t" + literal(accepts) + ",");
+		StringBuilder names = new StringBuilder();
+		for (String action : actions){
+			names.append(names.length() > 0 ? ", " : "").append(literal(action));
+		}
+		out.println("\t\tnew String[]{" + names + "});");
+	}
+
+	private static BitSet single(int state){
+		BitSet set = new BitSet();
+		set.set(state);
+		return set;
+	}
+
+	private BitSet closure(BitSet states){
+		BitSet closure = (BitSet)states.clone();
+		List<Integer> work = new ArrayList<>();
+		for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)){
+			work.add(s);
+		}
+		while (!work.isEmpty()){
+			int s = work.remove(work.size() - 1);
+			for (int t : _epsilons.get(s)){
+				if (!closure.get(t)){
+					closure.set(t);
+					work.add(t);
+				}
+			}
+		}
+		return closure;
+	}
+
+	// a Java string literal; octal escapes avoid \\u escapes, which javac would translate before lexing
+	private static String literal(CharSequence s){
+		StringBuilder out = new StringBuilder("\"");
+		for (int i = 0; i < s.length(); i++){
+			char c = s.charAt(i);
+			if (c == '"' || c == '\\'){
+				out.append('\\').append(c);
+			} else if (c >= 0x20 && c < 0x7f){
+				out.append(c);
+			} else if (c < 0x100){
+				out.append(String.format("\\%03o", (int)c));
+			} else {
+				out.append(String.format("\\u%04x", (int)c));
+			}
+		}
+		return out.append('"').toString();
+	}
+
+	// Recursive descent over one pattern, building an NFA fragment {start, end} for each piece:
+	//  alternation ::= sequence ("|" sequence)*, sequence ::= repeat*, repeat ::= atom ("*" | "+" | "?")*
+	//  atom ::= "text" | [class] | {name} | ( alternation )
+	private class PatternParser {
+		private String _pattern;
+		private int _pos = 0;
+
+		PatternParser(String pattern){
+			this._pattern = pattern;
+		}
+
+		int[] parse(){
+			int[] fragment = alternation();
+			skipSpaces();
+			if (_pos < _pattern.length()){
+				throw error("unexpected '" + _pattern.charAt(_pos) + "'");
+			}
+			return fragment;
+		}
+
+		private int[] alternation(){
+			int[] first = sequence();
+			skipSpaces();
+			if (!peek('|')){
+				return first;
+			}
+			int start = newState();
+			int end = newState();
+			_epsilons.get(start).add(first[0]);
+			_epsilons.get(first[1]).add(end);
+			while (peek('|')){
+				_pos++;
+				int[] next = sequence();
+				_epsilons.get(start).add(next[0]);
+				_epsilons.get(next[1]).add(end);
+				skipSpaces();
+			}
+			return new int[]{start, end};
+		}
+
+		private int[] sequence(){
+			int start = newState();
+			int end = start;
+			while (true){
+				skipSpaces();
+				if (_pos >= _pattern.length() || peek('|') || peek(')')){
+					return new int[]{start, end};
+				}
+				int[] next = repeat();
+				_epsilons.get(end).add(next[0]);
+				end = next[1];
+			}
+		}
+
+		private int[] repeat(){
+			int[] atom = atom();
+			while (peek('*') || peek('+') || peek('?')){
+				char op = _pattern.charAt(_pos++);
+				int start = newState();
+				int end = newState();
+				_epsilons.get(start).add(atom[0]);
+				_epsilons.get(atom[1]).add(end);
+				if (op != '+'){
+					_epsilons.get(start).add(end);
+				}
+				if (op != '?'){
+					_epsilons.get(atom[1]).add(atom[0]);
+				}
+				atom = new int[]{start, end};
+			}
+			return atom;
+		}
+
+		private int[] atom(){
+			char c = _pattern.charAt(_pos++);
+			switch (c){
+				case '"': {
+					int start = newState();
+					int end = start;
+					while (!peek('"')){
+						if (_pos >= _pattern.length()){
+							throw error("unterminated string");
+						}
+						int symbol = escaped();
+						int next = newState();
+						BitSet set = new BitSet();
+						set.set(symbol);
+						_sets.set(end, set);
+						_targets.set(end, next);
+						end = next;
+					}
+					_pos++;
+					return new int[]{start, end};
+				}
+				case '[': {
+					boolean negated = peek('^');
+					if (negated){
+						_pos++;
+					}
+					BitSet set = new BitSet();
+					while (!peek(']')){
+						if (_pos >= _pattern.length()){
+							throw error("unterminated class");
+						}
+						int from = escaped();
+						int to = from;
+						if (peek('-') && _pos + 1 < _pattern.length() && _pattern.charAt(_pos + 1) != ']'){
+							_pos++;
+							to = escaped();
+						}
+						set.set(from, to + 1);
+					}
+					_pos++;
+					if (negated){
+						set.flip(1, HIGH);
+					}
+					int start = newState();
+					int end = newState();
+					_sets.set(start, set);
+					_targets.set(start, end);
+					return new int[]{start, end};
+				}
+				case '{': {
+					int close = _pattern.indexOf('}', _pos);
+					String name = close < 0 ? null : _pattern.substring(_pos, close);
+					String definition = name == null ? null : _definitions.get(name);
+					if (definition == null){
+						throw error("undefined name " + name);
+					}
+					_pos = close + 1;
+					return new PatternParser(definition).parse();
+				}
+				case '(': {
+					int[] inner = alternation();
+					if (!peek(')')){
+						throw error("expected ')'");
+					}
+					_pos++;
+					return inner;
+				}
+				default:
+					throw error("unexpected '" + c + "'");
+			}
+		}
+
+		// one (possibly escaped) character of a string or class
+		private int escaped(){
+			char c = _pattern.charAt(_pos++);
+			if (c != '\\'){
+				return c;
+			}
+			c = _pattern.charAt(_pos++);
+			switch (c){
+				case 't': return '\t';
+				case 'n': return '\n';
+				case 'f': return '\f';
+				case 'r': return '\r';
+				case 'x':
+					_pos += 2;
+					return Integer.parseInt(_pattern.substring(_pos - 2, _pos), 16);
+				default: return c;
+			}
+		}
+
+		private boolean peek(char c){
+			return _pos < _pattern.length() && _pattern.charAt(_pos) == c;
+		}
+
+		private void skipSpaces(){
+			while (_pos < _pattern.length() && _pattern.charAt(_pos) == ' '){
+				_pos++;
+			}
+		}
+
+		private IllegalArgumentException error(String message){
+			return new IllegalArgumentException("in pattern " + _pattern + " at " + _pos + ": " + message);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+// Generated by ScannerGenerator from tokens.spec; do not edit.
+package miniJava.SyntacticAnalyzer;
+
+final class ScannerTables {
+	// mini: 147 states (168 before minimization), 54 character classes
+	static final DfaTable MINI = new DfaTable(
+		"\000\001\001\001\001\001\001\001\001\002\003\002\002\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\004\005\006\001\007\010\011\012\013\014\015\016\017\020\021\022\022\022\022\022\022\022\022\022\022\023\024\025\026\027\030\006\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\031\031\031\031\031\031\031\033\006\034\006\035\006\036\037 !\"#$%&\031\031'\031()*\031+,-./0\031\031\0311234\00155555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555555",
+		54,
+		new String[]{
+			"\000\000\002\002\003\004\000\005\006\007\010\011\005\012\013\014\015\016\017\020\021\022\023\024\025\026\027\030\031\000\032\033\034\035\036\037\026\026 \026!\026\"#$%\026&'()*+\000\000\000\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000,\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004-\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\000...................../..............................\000\000\000\000\000\000\000\000\000.\000\000\000\000\000\000\000\000\000\000\000\000\000/\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\00000000000\0000000000000000000000000000000000000000000000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\0001\000\000\000\000\000\000\000\000/\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\0001\000\000\000\000\000\000/\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\0002\000\000\000\0003\000\000\000\000/\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\017\000\000\000\000\000\00044\000\00044444444444444444444\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000,\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000,\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000,\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\0265\026\026\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\0266\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\0267\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\0268\0269\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026:\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026;\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026<\026\026\026\026\026\026\026=>\026?\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026@\026\026\026\026A\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026B\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026C\026\026D\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026E\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026F\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026G\026\026\026\026\026H\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026I\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026J\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000/\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000.\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000....................................................\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000K\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\00022222222222L2222222222222222222222222222222222222222\000\00033M3333333333333333333333333333333333333333333333333\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026N\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026O\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026P\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026Q\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026R\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026S\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026T\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026U\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026V\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026W\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026X\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026Y\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026Z\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026[\026\026\\\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026]\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026^\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026_\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026`\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026a\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026bc\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026d\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\00022222222222L2222M22222222222222222222222222222222222\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026e\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026f\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026g\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026h\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026i\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026j\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026k\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026a\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026l\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026m\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026n\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026o\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026p\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026q\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026r\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026s\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026t\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026u\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026v\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026w\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026x\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026y\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026z\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026{\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026|\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026}\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026~\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\177\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\200\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\201\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\202\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\203\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\204\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\205\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\206\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\207\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\210\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\211\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\212\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\213\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\214\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\215\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026}\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\216\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\217\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\220\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\214\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\221\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\222\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026}\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026\223\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\026}\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\026\000\000\000\000\000\000\026\026\000\000\026\026\026\026\214\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000",
+		},
+		"\000\001\010\000\000\003\000\023\024\007\015\007\013\0038\016\017\011\004\012\02077\025\02677777777777777\021\003\022\000\005:\003\002\000\006\000\000977777777777\0307777777777;\000\0017777777777\032/\0367777777777777477\0317777777\033 \03577777\027762777777\0341773775\037770777",
+		new String[]{"skip", "assignOp", "binOp", "assignment", "compOp", "incOp", "genOp", "unOp", "lchevron", "rchevron", "dot", "ellipsis", "comma", "colon", "semicolon", "question", "lcurly", "rcurly", "lparen", "rparen", "lsquare", "rsquare", "classKeyword", "ifKeyword", "elseKeyword", "forKeyword", "thisKeyword", "whileKeyword", "voidKeyword", "newKeyword", "returnKeyword", "boolLiteral", "packageKeyword", "importKeyword", "throwsKeyword", "throwKeyword", "implementsKeyword", "extendsKeyword", "tryKeyword", "catchKeyword", "finallyKeyword", "breakKeyword", "continueKeyword", "doKeyword", "switchKeyword", "caseKeyword", "intPrimitive", "boolPrimitive", "stringPrimitive", "floatPrimitive", "doublePrimitive", "charPrimitive", "protection", "modifier", "id", "intLiteral", "error", "stringLiteral", "charLiteral"});
+
+	// full: 203 states (223 before minimization), 58 character classes
+	static final DfaTable FULL = new DfaTable(
+		"\000\001\001\001\001\001\001\001\001\002\003\002\002\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\004\005\006\007\010\011\012\013\014\015\016\017\020\021\022\023\023\023\023\023\023\023\023\023\023\024\025\026\027\030\031\006\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\033\032\032\032\032\032\032\032\034\006\035\006\032\006\036\037 !\"#$%&\032'()*+,\032-./01234\0325678\00199999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999",
+		58,
+		new String[]{
+			"\000\000\002\002\003\004\000\005\006\007\010\011\012\006\013\014\015\016\017\020\021\022\023\024\025\026\005\027\030\031\032\033\034\035\036\037\005\005 \005\005\005!\005\"#$%\005&'\005\005()*+\000\000\000\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000,\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004-\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000....................../.................................\000\000\000\000\000\000\000\000\000\000.\000\000\000\000\000\000\000\000\000\000\000\000\000/\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000000000000\0000000000000000000000000000000000000000000000000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\0001\000\000\000\000\000\000\000\000/\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\0001\000\000\000\000\000\000/\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\0002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\0003\000\000\000\0004\000\000\000\000/\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\020\000\000\000\000\000\00055\000\00055555555555555555555555\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000,\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000,\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000,\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\0056\005\005\005\005\005\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\0057\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\0058\0059\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000:\005\005\005\005\005\005;\005\005<\005\005=\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005>\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005?\005\005\005\005\005\005\005\005\005\005@\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000A\005\005\005\005\005\005\005B\005C\005\005D\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005E\005\005\005\005\005FG\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005H\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000I\005\005\005\005\005\005\005\005\005\005\005\005\005\005J\005\005K\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005L\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005M\005\005N\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005O\005\005\005\005\005\005\005P\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005Q\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005R\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000/\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000.\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000........................................................\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000S\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000T\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000333333333333U3333333333333333333333333333333333333333333\000\00044V44444444444444444444444444444444444444444444444444444\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005W\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005X\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005Y\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005Z\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005[\\\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000]\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000^\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005_\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005`\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005a\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005b\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005c\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005d\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005e\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005f\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005g\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005h\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005i\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005j\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005k\005\005\005\005l\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005m\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005n\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000o\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005p\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005q\005\005\005\005\005\005r\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005s\005\005\005t\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005u\005v\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005w\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000333333333333U3333V33333333333333333333333333333333333333\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005x\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005y\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005z\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000{\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005|\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005}\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005~\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\177\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\200\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\201\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\202\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\203\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005s\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\204\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\205\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\206\005\005\207\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\210\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\211\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\212\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\213\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\214\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\215\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\216\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\217\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\220\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\221\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\222\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\223\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\224\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\225\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\226\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\227\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\230\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\231\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\232\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\233\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\234\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\235\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\236\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\237\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\240\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\241\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\242\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\243\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\244\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\245\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\246\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\247\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000",
+			"\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\250\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\251\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\252\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\253\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\254\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\255\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\256\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\257\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\260\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\261\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\262\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\263\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\264\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\265\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\266\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\267\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\270\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\271\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\272\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\273\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\274\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\275\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\276\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\277\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\300\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\301\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\302\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\303\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\304\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\270\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\305\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\306\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\272\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\307\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\310\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\311\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\272\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\312\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\270\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\313\005\005\005\005\005\005\000\000\000\000\000\000\005\000\000\000\000\000\005\000\000\000\000\000\000\000\000\000\000\000\005\000\000\000\000\000\000\005\005\000\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000",
+		},
+		"\000\001\010\0007\000\003\000\023\024\007\015\007\013\0038\016\017\011\004\012\0207\025\02677777777777777\021\003\022\000\005:\003\002\000\006\000\000\000977777777,777777\0307777777777777;\014\000\001777777777777777\0327/\0367777777777'7777777.74777\031777777777777\0337 \03577777*(\02777762777777777$7\03417773777\"7775\0376-#7707&)7!77+777%",
+		new String[]{"skip", "assignOp", "binOp", "assignment", "compOp", "incOp", "genOp", "unOp", "lchevron", "rchevron", "dot", "ellipsis", "comma", "colon", "semicolon", "question", "lcurly", "rcurly", "lparen", "rparen", "lsquare", "rsquare", "classKeyword", "ifKeyword", "elseKeyword", "forKeyword", "thisKeyword", "whileKeyword", "voidKeyword", "newKeyword", "returnKeyword", "boolLiteral", "packageKeyword", "importKeyword", "throwsKeyword", "throwKeyword", "implementsKeyword", "extendsKeyword", "tryKeyword", "catchKeyword", "finallyKeyword", "breakKeyword", "continueKeyword", "doKeyword", "switchKeyword", "caseKeyword", "intPrimitive", "boolPrimitive", "stringPrimitive", "floatPrimitive", "doublePrimitive", "charPrimitive", "protection", "modifier", "id", "intLiteral", "error", "stringLiteral", "charLiteral"});
+}
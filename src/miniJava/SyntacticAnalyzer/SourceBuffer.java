@@ -0,0 +1,93 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+// Byte source for the Scanner. Scanner.nextChar() used to call InputStream.read()
+//  directly, which is one syscall per byte on an unbuffered FileInputStream.
+//  Use open() to pick an implementation based on the size of the file.
+//
+// Bytes stay addressable by offset once read, so tokens can refer to their text
+//  as a range of the buffer (see SourceText) instead of copying it.
+public abstract class SourceBuffer implements Closeable {
+
+	// files at least this big are memory-mapped instead of read block by block
+	public static final long MAP_THRESHOLD = 1 << 20;
+
+	private LineIndex _lines;
+	private String _name = "<input>";
+
+	// returns the byte (0-255) at offset, reading further input if needed, or -1 if offset is past the end of input
+	public abstract int byteAt(int offset) throws IOException;
+
+	// returns the byte at an offset below available(), without reading any input
+	public abstract byte get(int offset);
+
+	// number of bytes read so far (for a mapped file, the whole file)
+	public abstract int available();
+
+	// offset of the first byte at or after from that is a or b or >= 128 (part of a UTF-8 sequence), reading further input
+	//  as needed, or the length of the input if there is none. The implementations search a word at a time (see ByteSearch).
+	public int indexOfOrNonAscii(int from, byte a, byte b) throws IOException {
+		int c;
+		while ((c = byteAt(from)) >= 0){
+			if (c == (a & 0xff) || c == (b & 0xff) || c >= 128){
+				return from;
+			}
+			from++;
+		}
+		return Math.max(from, available());
+	}
+
+	// reads the rest of the input, returning its length
+	public int readAll() throws IOException {
+		byteAt(Integer.MAX_VALUE);
+		return available();
+	}
+
+	// copies len bytes starting at offset (all below available()) into dst
+	public abstract void getBytes(int offset, byte[] dst, int dstOffset, int len);
+
+	public SourceText text(int start, int end){
+		return new SourceText(this, start, end);
+	}
+
+	// line/column lookup for offsets into this buffer, built as it is first needed
+	public LineIndex lines(){
+		if (_lines == null){
+			_lines = new LineIndex(this);
+		}
+		return _lines;
+	}
+
+	// called by a buffer whose bytes from offset on were changed in place, so their lines are looked up again
+	void edited(int offset){
+		if (_lines != null){
+			_lines.truncate(offset);
+		}
+	}
+
+	// name of the input, used to locate errors
+	public String getName(){
+		return _name;
+	}
+
+	public void setName(String name){
+		this._name = name;
+	}
+
+	public static SourceBuffer open(File f) throws IOException {
+		SourceBuffer source;
+		if (f.length() >= MAP_THRESHOLD){
+			source = new MappedSourceBuffer(f);
+		} else {
+			source = new BlockSourceBuffer(new FileInputStream(f), (int)f.length());
+		}
+		source.setName(f.getPath());
+		return source;
+	}
+
+	public void close() throws IOException { }
+}
@@ -0,0 +1,90 @@
+package miniJava.SyntacticAnalyzer;
+
+// Text of a token as a view of [start,end) in its SourceBuffer; nothing is copied until toString().
+//  Offsets past the end of input read as 0, the Scanner's end of input character.
+//  ASCII text is read straight from the buffer; text with bytes >= 128 is decoded from UTF-8 (see Utf8) once, on first use,
+//  so that length and charAt count UTF-16 chars, as a String of it would.
+public class SourceText implements CharSequence {
+	private SourceBuffer _source;
+	private int _start;
+	private int _end;
+	private boolean _checked; //whether the range has been looked at for bytes >= 128
+	private String _decoded; //the decoded text, if there were any
+
+	public SourceText(SourceBuffer source, int start, int end){
+		this._source = source;
+		this._start = start;
+		this._end = end;
+	}
+
+	// reuse this view for another range; lets the Scanner and cursors look at text without allocating
+	void reset(int start, int end){
+		this._start = start;
+		this._end = end;
+		this._checked = false;
+		this._decoded = null;
+	}
+
+	// reset, for a range the Scanner has found to be ASCII
+	void resetAscii(int start, int end){
+		this._start = start;
+		this._end = end;
+		this._checked = true;
+		this._decoded = null;
+	}
+
+	// offsets of the text in its source, in bytes
+	public int start(){
+		return _start;
+	}
+
+	public int end(){
+		return _end;
+	}
+
+	private String decoded(){
+		if (!_checked){
+			_checked = true;
+			int limit = Math.min(_end, _source.available());
+			for (int i = _start; i < limit; i++){
+				if (_source.get(i) < 0){
+					StringBuilder text = new StringBuilder(limit - _start);
+					Utf8.decode(_source, _start, limit, text);
+					_decoded = text.toString();
+					break;
+				}
+			}
+		}
+		return _decoded;
+	}
+
+	public int length(){
+		String decoded = decoded();
+		return decoded != null ? decoded.length() : _end - _start;
+	}
+
+	public char charAt(int index){
+		String decoded = decoded();
+		if (decoded != null){
+			return decoded.charAt(index);
+		}
+		int offset = _start + index;
+		return offset < _source.available() ? (char)(_source.get(offset) & 0xff) : 0;
+	}
+
+	public CharSequence subSequence(int start, int end){
+		return new SourceText(_source, _start + start, _start + end);
+	}
+
+	public String toString(){
+		String decoded = decoded();
+		if (decoded != null){
+			return decoded;
+		}
+		char[] chars = new char[length()];
+		for (int i = 0; i < chars.length; i++){
+			chars[i] = charAt(i);
+		}
+		return new String(chars);
+	}
+}
@@ -72,11 +72,113 @@ public class Token {
 		this.add(TokenType.stringLiteral);
 	}};
 
+	// Sets of TokenTypes as bitmasks over their ordinals (there are fewer than 64), so membership is a single bit test: (set & bit(type)) != 0
+	public static final long primitiveTypes = typeSet(primitives.values());
+	public static final long literalTypes = typeSet(literals);
+	public static final long prefixOperators = typeSet(Arrays.asList(TokenType.unOp, TokenType.genOp, TokenType.incOp)); //before a unary expression
+	public static final long assignmentOperators = typeSet(Arrays.asList(TokenType.assignment, TokenType.assignOp, TokenType.incOp)); //after an assigned reference
+
+	public static long bit(TokenType type){
+		return 1L << type.ordinal();
+	}
+
+	public static long typeSet(Iterable<TokenType> types){
+		long set = 0;
+		for (TokenType t : types){
+			if (t.ordinal() >= Long.SIZE){
+				throw new IllegalStateException("TokenType " + t + " does not fit in a 64-bit type set");
+			}
+			set |= bit(t);
+		}
+		return set;
+	}
+
 	public static final HashSet<String> protectionKeywords = new HashSet<>(Arrays.asList("public","private","protected"));
 	public static final HashSet<String> modifierKeywords = new HashSet<>(Arrays.asList("static","final","volatile","abstract"));
 
+	// ASCII fast path for the sets above, so the Scanner can classify a character without boxing it.
+	//  Characters >= 128 are not in the tables; the Scanner falls back to the sets and Character methods for those.
+	public static final int WHITESPACE = 1;
+	public static final int IDENT_START = 2;
+	public static final int IDENT_PART = 4;
+	public static final int DIGIT = 8;
+	public static final int ALPHABETIC = 16;
+	public static final int OPSTART = 32;
+	public static final int ASSIGNOP = 64;
+	public static final int DUALOP = 128;
+
+	public static final int[] asciiClasses = new int[128];
+	public static final TokenType[] asciiPunctuation = new TokenType[128];
+
+	// reserved words bucketed by length and first character; see reservedWord()
+	private static final int MAX_RESERVED_LENGTH = 16;
+	private static final String[][] reservedText = new String[MAX_RESERVED_LENGTH * 128][];
+	private static final TokenType[][] reservedTypes = new TokenType[MAX_RESERVED_LENGTH * 128][];
+
+	static {
+		for (char c = 0; c < 128; c++){
+			int flags = 0;
+			if (Character.isWhitespace(c)) flags |= WHITESPACE;
+			if (Character.isJavaIdentifierStart(c) && (!Compiler.IS_MINI || Character.isLetter(c) || Character.getType(c) == Character.LETTER_NUMBER)) flags |= IDENT_START;
+			//0 is the Scanner's end of input marker, not an (ignorable) identifier character
+			if (Character.isJavaIdentifierPart(c) && c != 0) flags |= IDENT_PART;
+			if (Character.isDigit(c)) flags |= DIGIT;
+			if (Character.isAlphabetic(c)) flags |= ALPHABETIC;
+			if (opstarts.contains(c)) flags |= OPSTART;
+			if (assignOps.contains(c)) flags |= ASSIGNOP;
+			if (dualOps.contains(c)) flags |= DUALOP;
+			asciiClasses[c] = flags;
+			asciiPunctuation[c] = punctuation.get(c);
+		}
+
+		for (String word : keywords.keySet()) addReserved(word, keywords.get(word));
+		for (String word : primitives.keySet()) addReserved(word, primitives.get(word));
+		for (String word : protectionKeywords) addReserved(word, TokenType.protection);
+		for (String word : modifierKeywords) addReserved(word, TokenType.modifier);
+	}
+
+	private static void addReserved(String word, TokenType type){
+		int bucket = word.length() * 128 + word.charAt(0);
+		String[] texts = reservedText[bucket];
+		TokenType[] types = reservedTypes[bucket];
+		int n = texts == null ? 0 : texts.length;
+		texts = texts == null ? new String[1] : Arrays.copyOf(texts, n + 1);
+		types = types == null ? new TokenType[1] : Arrays.copyOf(types, n + 1);
+		texts[n] = word;
+		types[n] = type;
+		reservedText[bucket] = texts;
+		reservedTypes[bucket] = types;
+	}
+
+	// Looks up text in keywords, primitives, protectionKeywords and modifierKeywords without building a String.
+	//  Returns null if text is not a reserved word (i.e. it is an identifier).
+	public static TokenType reservedWord(CharSequence text){
+		int len = text.length();
+		if (len == 0 || len >= MAX_RESERVED_LENGTH || text.charAt(0) >= 128){
+			return null;
+		}
+		int bucket = len * 128 + text.charAt(0);
+		String[] texts = reservedText[bucket];
+		if (texts == null){
+			return null;
+		}
+		candidates:
+		for (int i = 0; i < texts.length; i++){
+			String word = texts[i];
+			for (int j = 1; j < len; j++){
+				if (word.charAt(j) != text.charAt(j)){
+					continue candidates;
+				}
+			}
+			return reservedTypes[bucket][i];
+		}
+		return null;
+	}
+
 	private TokenType _type;
-	private String _text;
+	private CharSequence _text;
+	private int _offset = -1;
+	private LineIndex _lines;
 	private int _line;
 	private int _col;
 	
@@ -86,16 +188,58 @@ public class Token {
 		_line = lineno;
 		_col = colno;
 	}
+
+	// Token whose text is a view of the source, and whose line and column are looked up in lines when first asked for
+	public Token(TokenType type, CharSequence text, int offset, LineIndex lines) {
+		_type = type;
+		_text = text;
+		_offset = offset;
+		_lines = lines;
+	}
 	
 	public TokenType getTokenType() {
 		return _type;
 	}
 	
 	public String getTokenText() {
+		return _text.toString();
+	}
+
+	public CharSequence getText() {
 		return _text;
 	}
 
+	// offset of the token in its source, or -1 if it wasn't made from one
+	public int getOffset() {
+		return _offset;
+	}
+
+	// offset just past the token in its source; its text may be shorter, in chars, where it holds non-ASCII
+	public int getEnd() {
+		return _text instanceof SourceText ? ((SourceText)_text).end() : _offset + _text.length();
+	}
+
+	public int getLine() {
+		if (_lines != null){
+			resolvePosition();
+		}
+		return _line;
+	}
+
+	public int getCol() {
+		if (_lines != null){
+			resolvePosition();
+		}
+		return _col;
+	}
+
+	private void resolvePosition(){
+		_line = _lines.line(_offset);
+		_col = _lines.col(_offset);
+		_lines = null;
+	}
+
 	public String toString(){
-		return "Token of type {" + _type + "}: " + _text + " at line " + _line + ":" + _col;
+		return "Token of type {" + _type + "}: " + _text + " at line " + getLine() + ":" + getCol();
 	}
 }
@@ -0,0 +1,38 @@
+package miniJava.SyntacticAnalyzer;
+
+// The Parser's view of the token stream: the current token's fields, without needing a Token object per token.
+//  Tokens are numbered in stream order; token(index) materializes an earlier token, e.g. for an error message
+//  (a TokenRing only keeps the last few).
+public interface TokenCursor {
+	TokenType type();
+
+	// type of the token k ahead of the current one, for LL(k) decisions; peek(0) is type(), and past the end it is EOT.
+	//  k is at most TokenRing.MAX_PEEK.
+	TokenType peek(int k);
+
+	// text of the current token; a view that is only valid until the cursor moves
+	CharSequence text();
+
+	// source range [start,end) of the current token
+	int start();
+
+	int end();
+
+	// index of the current token in the stream
+	int index();
+
+	// move to the next token
+	void advance();
+
+	Token token(int index);
+
+	// name of the input the tokens came from, used to locate errors
+	String sourceName();
+
+	// the input the tokens came from, which token offsets index into
+	SourceBuffer source();
+
+	default Token token(){
+		return token(index());
+	}
+}
@@ -0,0 +1,700 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import miniJava.CompilerError;
+import miniJava.ErrorReporter;
+
+// A Scanner's output kept in a file, so a source can be scanned once and parsed later, elsewhere, or many times
+//  (see Compiler -emittokens and -tokens). Parsing one gives the Parser the same tokens, and reports the same scanner errors
+//  at the same points, as scanning the source would; the source itself is not needed.
+//
+// Both directions stream with bounded memory: write() holds one token and the text table; a TokenFile is read through
+//  a memory mapping, holding the text table and a checkpoint every CHECKPOINT tokens, never the tokens themselves.
+//  It stands in for the source as the SourceBuffer of its tokens: their offsets are those of the source,
+//  and their text and positions are read back from the file. Between tokens, only the lines and column to the next token are kept,
+//  so that is what those bytes read back as: spaces, and newlines just before the next token's line (comments are blank).
+//
+// Format FORMAT; integers are unsigned LEB128 varints, strings a varint byte count and that many bytes:
+//  header: int MAGIC and byte FORMAT (big-endian), byte number of TokenTypes, string source name
+//  then records, each a tag byte: a TokenType ordinal, ERROR or END in its low 6 bits, and for a token its layout in the top 2
+//   token: the fields of its layout, then its text
+//   ERROR: a scanner error, reported before the token following it; varint start, varint length, varint line, varint column,
+//     and its message, coded as a text is (below) but with a table of its own, and SAME_TEXT for the last error's
+//   END: after the EOT token; varint number of tokens, so a file that was cut short is noticed
+//  Layouts place a token after the one before it; the column is as LineIndex numbers them:
+//   ADJACENT: right after it; SPACED: one byte after it, on the same line (neither has fields, and the column is counted on)
+//   NEXT_LINE: varint bytes after it, varint column, on the next line
+//   MOVED: varint bytes after it, varint lines further down, varint column
+//  The text of a token is SAME_TEXT, the text of the last token of its type; NEW_TEXT and a string, which becomes the next entry
+//   of the text table; INLINE_TEXT and a string; or TABLE_BASE + an entry. Texts of up to MAX_INTERNED bytes are entered
+//   until there are MAX_TEXTS, so each name of a file is written once, and each keyword and punctuation mark takes a byte.
+//  Every CHECKPOINT'th token, from the first, starts afresh so that reading can begin there: it is MOVED from offset 0 and line 1,
+//   and SAME_TEXT only refers to tokens from it on.
+public class TokenFile extends SourceBuffer {
+	public static final int MAGIC = 0x4d4a544b; //"MJTK"
+	public static final int FORMAT = 1; //bump with any change to the format, or to the order of TokenType
+	public static final String EXTENSION = ".tok";
+
+	private static final TokenType[] TYPES = TokenType.values();
+	static final int ERROR = 0x3e;
+	static final int END = 0x3f;
+	static final int ADJACENT = 0, SPACED = 1, NEXT_LINE = 2, MOVED = 3;
+	static final int SAME_TEXT = 0, NEW_TEXT = 1, INLINE_TEXT = 2, TABLE_BASE = 3;
+	static final int MAX_INTERNED = 64;
+	static final int MAX_TEXTS = 1 << 16;
+	static final int CHECKPOINT = 256;
+
+	static {
+		if (TYPES.length > ERROR){
+			throw new IllegalStateException("TokenType " + TYPES[ERROR] + " does not fit in a token file record");
+		}
+	}
+
+	private MappedByteBuffer _map;
+	private int _limit;
+	private ErrorReporter _errors;
+	private Decoder _read = new Decoder(); //where the cursor is reading
+	private Decoder _seek = new Decoder(); //the token get() and lines() last looked at
+	private int _length = 0; //end of the last token read
+	private boolean _cursor;
+
+	// file positions and lengths of the text table's entries
+	private int[] _textAt = new int[64];
+	private int[] _textLength = new int[64];
+	private int _texts = 0;
+	private String[] _messages = new String[16]; //the table of error messages
+	private int _messageCount = 0;
+	private String _lastMessage;
+
+	// where every CHECKPOINT'th token read starts, in the source and in the file
+	private int[] _checkStart = new int[64];
+	private int[] _checkAt = new int[64];
+	private int _checks = 0;
+
+	private LineIndex _positions = new Positions();
+
+	// Opens a file written by write(); the scanner errors recorded in it are reported to errors as its tokens are read
+	public static TokenFile open(File f, ErrorReporter errors) throws IOException {
+		return new TokenFile(f, errors);
+	}
+
+	private TokenFile(File f, ErrorReporter errors) throws IOException {
+		this._errors = errors;
+		try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.READ)){
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE){
+				throw new IOException("Token file too large: " + f);
+			}
+			this._limit = (int)size;
+			this._map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+		if (_limit < 6 || _map.getInt(0) != MAGIC){
+			throw new IOException("Not a token file: " + f);
+		}
+		if (_map.get(4) != FORMAT || _map.get(5) != TYPES.length){
+			throw new IOException("Token file " + f + " is of format " + _map.get(4) + " with " + _map.get(5)
+					+ " token types; this compiler reads format " + FORMAT + " with " + TYPES.length);
+		}
+		try {
+			_read.at = 6;
+			setName(_read.string(_read.varint()));
+		} catch (UncheckedIOException e){
+			throw e.getCause();
+		}
+	}
+
+	// The Parser's cursor over the tokens; a TokenFile is read once, so there can only be one.
+	//  A damaged file is found as it is read, and thrown as an UncheckedIOException.
+	public TokenCursor cursor(){
+		if (_cursor){
+			throw new IllegalStateException("a token file can only be read once");
+		}
+		_cursor = true;
+		return new TokenRing(this);
+	}
+
+	// number of tokens read so far
+	public int tokenCount(){
+		return _read.index + 1;
+	}
+
+	// Reads the next token into ring, reporting the errors recorded before it
+	TokenType readInto(TokenRing ring){
+		Decoder d = _read;
+		d.next(true);
+		if (d.index % CHECKPOINT == 0){
+			int i = d.index / CHECKPOINT;
+			if (i == _checkStart.length){
+				_checkStart = Arrays.copyOf(_checkStart, i * 2);
+				_checkAt = Arrays.copyOf(_checkAt, i * 2);
+			}
+			_checkStart[i] = d.start;
+			_checkAt[i] = d.recordAt;
+			_checks = i + 1;
+		}
+		_length = d.end;
+		TokenType type = TYPES[d.type];
+		if (type == TokenType.EOT){
+			if (d.u8() != END || d.varint() != d.index + 1){
+				throw corrupt("it does not end after its EOT token");
+			}
+		}
+		ring.add(type, d.start, d.end);
+		return type;
+	}
+
+	// State of reading the records: the last token decoded, and where the next record starts
+	private class Decoder {
+		int at; //file position of the next record
+		int index = -1; //number of the last token decoded
+		int type, start = -1, end, line = 1, col;
+		int textAt; //file position of the token's text
+		int recordAt; //where the token's record started
+		int previousStart, previousEnd, previousLine, previousCol; //of the token before it; at the start of input, one just before it
+		int[] lastTextAt = new int[TYPES.length]; //text of the last token of each type since the checkpoint, for SAME_TEXT
+		int[] lastTextLength = new int[TYPES.length];
+
+		// Decodes records up to and including the next token. Only reading enters texts into the table and reports errors;
+		//  otherwise the file is being read again from a checkpoint.
+		void next(boolean reading){
+			previousStart = start;
+			previousEnd = end;
+			previousLine = line;
+			previousCol = col;
+			int tag;
+			while ((tag = u8()) == ERROR){
+				int start = varint();
+				int length = varint();
+				int line = varint();
+				int col = varint();
+				String message = message(reading);
+				if (reading){
+					_errors.reportError(new CompilerError(message, getName(), line, col, start, start + length));
+				}
+			}
+			recordAt = at - 1;
+			type = tag & 0x3f;
+			int layout = tag >>> 6;
+			if (type >= TYPES.length){
+				throw corrupt("unknown record " + tag + " at " + recordAt);
+			}
+			index++;
+			if (index % CHECKPOINT == 0){
+				if (layout != MOVED){
+					throw corrupt("token " + index + " does not start afresh");
+				}
+				end = 0;
+				line = 1;
+				Arrays.fill(lastTextLength, -1);
+			}
+			switch (layout){
+				case ADJACENT:
+				case SPACED:
+					start = end + layout;
+					col += start - previousStart;
+					break;
+				case NEXT_LINE:
+					start = end + varint();
+					line++;
+					col = varint();
+					break;
+				default:
+					start = end + varint();
+					line += varint();
+					col = varint();
+			}
+			int text = varint();
+			int length;
+			if (text == SAME_TEXT){
+				length = lastTextLength[type];
+				if (length < 0){
+					throw corrupt("token " + index + " has the text of none");
+				}
+				textAt = lastTextAt[type];
+			} else if (text == NEW_TEXT || text == INLINE_TEXT){
+				length = varint();
+				textAt = at;
+				at += length;
+				if (text == NEW_TEXT && reading){
+					enter(textAt, length);
+				}
+			} else if (text - TABLE_BASE < _texts){
+				textAt = _textAt[text - TABLE_BASE];
+				length = _textLength[text - TABLE_BASE];
+			} else {
+				throw corrupt("text " + text + " is not in its table");
+			}
+			lastTextAt[type] = textAt;
+			lastTextLength[type] = length;
+			end = start + length;
+			if (at > _limit || end < start){
+				throw corrupt("it is cut short");
+			}
+		}
+
+		int u8(){
+			if (at >= _limit){
+				throw corrupt("it is cut short");
+			}
+			return _map.get(at++) & 0xff;
+		}
+
+		int varint(){
+			int value = 0;
+			for (int shift = 0; shift < 35; shift += 7){
+				int b = u8();
+				value |= (b & 0x7f) << shift;
+				if (b < 0x80){
+					return value;
+				}
+			}
+			throw corrupt("a number at " + at + " is too long");
+		}
+
+		// the message of an error record, or null if not reading
+		String message(boolean reading){
+			int code = varint();
+			if (code == NEW_TEXT || code == INLINE_TEXT){
+				int length = varint();
+				if (!reading){
+					at += length;
+					return null;
+				}
+				String message = string(length);
+				if (code == NEW_TEXT){
+					if (_messageCount == _messages.length){
+						_messages = Arrays.copyOf(_messages, _messageCount * 2);
+					}
+					_messages[_messageCount++] = message;
+				}
+				_lastMessage = message;
+			} else if (code != SAME_TEXT && code - TABLE_BASE < _messageCount){
+				_lastMessage = _messages[code - TABLE_BASE];
+			} else if (code != SAME_TEXT || (reading && _lastMessage == null)){
+				throw corrupt("message " + code + " is not in its table");
+			}
+			return _lastMessage;
+		}
+
+		String string(int length){
+			if (length > _limit - at){
+				throw corrupt("it is cut short");
+			}
+			byte[] bytes = new byte[length];
+			_map.get(at, bytes);
+			at += length;
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		// offset of the last newline before the token, if it is on a later line than the one before it
+		int lastNewline(){
+			return Math.max(previousEnd + line - previousLine - 1, Math.min(start - col, start - 1));
+		}
+	}
+
+	private void enter(int at, int length){
+		if (_texts == _textAt.length){
+			_textAt = Arrays.copyOf(_textAt, _texts * 2);
+			_textLength = Arrays.copyOf(_textLength, _texts * 2);
+		}
+		_textAt[_texts] = at;
+		_textLength[_texts] = length;
+		_texts++;
+	}
+
+	private UncheckedIOException corrupt(String what){
+		return new UncheckedIOException(new IOException("Damaged token file for " + getName() + ": " + what));
+	}
+
+	// Moves _seek to the first token read that ends after offset, or the last one read.
+	//  Going forward from the token looked at last, as reading text mostly does, costs a token at a time;
+	//  anywhere else, it decodes from the checkpoint at or before offset, at most CHECKPOINT tokens.
+	private Decoder seek(int offset){
+		Decoder s = _seek;
+		if (s.index >= 0 && s.start <= offset && offset < s.end){
+			return s;
+		}
+		int check = checkpoint(offset);
+		if (s.index < 0 || offset < s.start || s.index / CHECKPOINT != check){
+			s.at = _checkAt[check];
+			s.index = check * CHECKPOINT - 1;
+			//the token before is only looked at for offsets before the first token: any other is found from an earlier checkpoint
+			s.start = -1;
+			s.end = 0;
+			s.line = 1;
+			s.col = 0;
+			s.next(false);
+		}
+		while (s.end <= offset && s.index < _read.index){
+			s.next(false);
+		}
+		return s;
+	}
+
+	// the last checkpoint at or before offset, or the first
+	private int checkpoint(int offset){
+		int i = Arrays.binarySearch(_checkStart, 0, _checks, offset);
+		return i >= 0 ? i : Math.max(0, -(i + 1) - 1);
+	}
+
+	@Override
+	public byte get(int offset){
+		Decoder s = seek(offset);
+		if (s.start <= offset && offset < s.end){
+			return _map.get(s.textAt + offset - s.start);
+		}
+		int last = s.lastNewline();
+		return offset < s.start && offset <= last && offset > last - (s.line - s.previousLine) ? (byte)'\n' : (byte)' ';
+	}
+
+	// The source is not read past the tokens read by the cursor
+	@Override
+	public int byteAt(int offset){
+		return offset < _length ? get(offset) & 0xff : -1;
+	}
+
+	@Override
+	public int available(){
+		return _length;
+	}
+
+	@Override
+	public void getBytes(int offset, byte[] dst, int dstOffset, int len){
+		for (int i = 0; i < len; i++){
+			dst[dstOffset + i] = get(offset + i);
+		}
+	}
+
+	// Positions of tokens, as recorded in the file, which are what the Parser and AST mostly ask for.
+	//  Any other offset is counted on, in bytes, from the start of the token it falls in, or placed among the spaces
+	//  and newlines between tokens as get() reads them back.
+	@Override
+	public LineIndex lines(){
+		return _positions;
+	}
+
+	private class Positions extends LineIndex {
+		Positions(){
+			super(TokenFile.this);
+		}
+
+		@Override
+		public int line(int offset){
+			Decoder s = seek(offset);
+			int last = s.lastNewline();
+			if (offset >= s.start || offset > last){
+				return s.line;
+			}
+			//a newline is the first character of the line it starts
+			return offset > last - (s.line - s.previousLine) ? s.line - (last - offset) : s.previousLine;
+		}
+
+		@Override
+		public int col(int offset){
+			if (offset == 0){
+				return 0;
+			}
+			Decoder s = seek(offset);
+			if (offset >= s.start){
+				//as LineIndex counts them, columns on the first line go 0, 2, 3...
+				return (s.start == 0 ? 1 : s.col) + offset - s.start;
+			}
+			int lines = s.line - s.previousLine;
+			int last = s.lastNewline();
+			if (lines == 0 || offset > last){
+				return s.col - (s.start - offset);
+			} else if (offset > last - lines){
+				return 0;
+			}
+			return s.previousCol + offset - s.previousStart;
+		}
+	}
+
+	// Scans source to its end, writing its tokens and scanner errors to out (which is left open) in this format
+	public static void write(SourceBuffer source, OutputStream out) throws IOException {
+		Writer writer = new Writer(source, out);
+		Scanner scanner = new Scanner(source, writer.errors());
+		try {
+			while (scanner.scanInto(writer) != TokenType.EOT){ }
+			writer.finish();
+		} catch (UncheckedIOException e){
+			throw e.getCause();
+		}
+	}
+
+	// Encodes tokens as the Scanner hands them over, through a buffer of its own
+	static class Writer implements TokenSink {
+		private static final int BUFFER_SIZE = 1 << 16;
+
+		private SourceBuffer _source;
+		private OutputStream _out;
+		private byte[] _buffer = new byte[BUFFER_SIZE];
+		private int _size = 0;
+		private int _tokens = 0;
+		private int _previousStart, _previousEnd, _previousLine, _previousCol;
+		private int[] _lastStart = new int[TYPES.length]; //text of the last token of each type since the checkpoint, for SAME_TEXT
+		private int[] _lastLength = new int[TYPES.length];
+
+		// position of _counted, as LineIndex would number it, kept up as tokens are written
+		private int _counted = 0;
+		private int _line = 1;
+		private int _lineStart = -1; //offset of the last newline before _counted
+		private int _wide = 0; //UTF-16 chars minus bytes from _lineStart to _counted
+
+		// text table: entries are source ranges, found through an open-addressed hash table of entry + 1 (0 is free)
+		private int[] _slots = new int[256];
+		private int[] _entryStart = new int[128];
+		private int[] _entryLength = new int[128];
+		private int _entries = 0;
+		private Map<String,Integer> _messages = new HashMap<>();
+		private String _lastMessage;
+
+		Writer(SourceBuffer source, OutputStream out){
+			this._source = source;
+			this._out = out;
+			int4(MAGIC);
+			u8(FORMAT);
+			u8(TYPES.length);
+			string(source.getName().getBytes(StandardCharsets.UTF_8));
+		}
+
+		// Reporter the Scanner reports its errors to, each of which is written before the token being scanned
+		ErrorReporter errors(){
+			return new ErrorReporter(){
+				@Override
+				public void reportError(CompilerError e){
+					ensure(1 + 5 * 6); //up to the message's length
+					u8(ERROR);
+					varint(e.start);
+					varint(e.end - e.start);
+					varint(e.line);
+					varint(Math.max(e.col, 0));
+					message(e.message);
+				}
+			};
+		}
+
+		// Called by the Scanner with each token it scans
+		@Override
+		public void add(TokenType type, int start, int end){
+			count(start);
+			int col = start == 0 ? 0 : start - _lineStart + _wide;
+			if (_tokens % CHECKPOINT == 0){
+				_previousEnd = 0;
+				_previousLine = 1;
+				Arrays.fill(_lastLength, -1);
+			}
+			int gap = start - _previousEnd;
+			int lines = _line - _previousLine;
+			ensure(1 + 3 * 5 + 5);
+			if (_tokens % CHECKPOINT != 0 && lines == 0 && gap <= 1 && col == _previousCol + start - _previousStart){
+				u8(type.ordinal() | (gap == 0 ? ADJACENT : SPACED) << 6);
+			} else if (lines == 1 && _tokens % CHECKPOINT != 0){
+				u8(type.ordinal() | NEXT_LINE << 6);
+				varint(gap);
+				varint(col);
+			} else {
+				u8(type.ordinal() | MOVED << 6);
+				varint(gap);
+				varint(lines);
+				varint(col);
+			}
+			text(type.ordinal(), start, end);
+			_previousStart = start;
+			_previousEnd = end;
+			_previousLine = _line;
+			_previousCol = col;
+			_tokens++;
+		}
+
+		private void message(String message){
+			Integer entry = _messages.get(message);
+			if (message.equals(_lastMessage)){
+				varint(SAME_TEXT);
+			} else if (entry != null){
+				varint(entry + TABLE_BASE);
+			} else if (_messages.size() < MAX_TEXTS){
+				_messages.put(message, _messages.size());
+				varint(NEW_TEXT);
+				string(message.getBytes(StandardCharsets.UTF_8));
+			} else {
+				varint(INLINE_TEXT);
+				string(message.getBytes(StandardCharsets.UTF_8));
+			}
+			_lastMessage = message;
+		}
+
+		void finish(){
+			ensure(6);
+			u8(END);
+			varint(_tokens);
+			flush();
+		}
+
+		// Counts lines and UTF-16 chars on to offset, as LineIndex does; a token never starts at a newline or inside a UTF-8 sequence
+		private void count(int offset){
+			int i = _counted;
+			while (i < offset){
+				byte b = _source.get(i);
+				if (b == '\n'){
+					_line++;
+					_lineStart = i;
+					_wide = 0;
+					i++;
+				} else if (b >= 0){
+					i++;
+				} else {
+					int c = Utf8.decode(_source, i, offset);
+					int length = c < 0 ? -c : Utf8.length(c);
+					_wide += (c < 0 ? 1 : Character.charCount(c)) - length;
+					i += length;
+				}
+			}
+			_counted = i;
+		}
+
+		private void text(int type, int start, int end){
+			int length = end - start;
+			if (same(_lastStart[type], _lastLength[type], start, length)){
+				varint(SAME_TEXT);
+				return;
+			}
+			_lastStart[type] = start;
+			_lastLength[type] = length;
+			if (length > MAX_INTERNED){
+				varint(INLINE_TEXT);
+				bytes(start, length);
+				return;
+			}
+			int hash = hash(start, length);
+			int mask = _slots.length - 1;
+			int slot = hash & mask;
+			for (int entry; (entry = _slots[slot]) != 0; slot = (slot + 1) & mask){
+				if (same(_entryStart[entry - 1], _entryLength[entry - 1], start, length)){
+					varint(entry - 1 + TABLE_BASE);
+					return;
+				}
+			}
+			if (_entries == MAX_TEXTS){
+				varint(INLINE_TEXT);
+				bytes(start, length);
+				return;
+			}
+			if (_entries == _entryStart.length){
+				_entryStart = Arrays.copyOf(_entryStart, _entries * 2);
+				_entryLength = Arrays.copyOf(_entryLength, _entries * 2);
+			}
+			_entryStart[_entries] = start;
+			_entryLength[_entries] = length;
+			_entries++;
+			_slots[slot] = _entries;
+			if (_entries * 2 > _slots.length){
+				rehash();
+			}
+			varint(NEW_TEXT);
+			bytes(start, length);
+		}
+
+		// whether the source ranges [from, from+fromLength) and [start, start+length) hold the same bytes
+		private boolean same(int from, int fromLength, int start, int length){
+			if (fromLength != length){
+				return false;
+			}
+			for (int i = 0; i < length; i++){
+				if (_source.get(from + i) != _source.get(start + i)){
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private int hash(int start, int length){
+			int hash = 0;
+			for (int i = start; i < start + length; i++){
+				hash = 31 * hash + _source.get(i);
+			}
+			return hash ^ (hash >>> 16);
+		}
+
+		private void rehash(){
+			_slots = new int[_slots.length * 2];
+			int mask = _slots.length - 1;
+			for (int entry = 0; entry < _entries; entry++){
+				int slot = hash(_entryStart[entry], _entryLength[entry]) & mask;
+				while (_slots[slot] != 0){
+					slot = (slot + 1) & mask;
+				}
+				_slots[slot] = entry + 1;
+			}
+		}
+
+		private void bytes(int start, int length){
+			varint(length);
+			while (length > 0){
+				ensure(1);
+				int n = Math.min(length, _buffer.length - _size);
+				_source.getBytes(start, _buffer, _size, n);
+				_size += n;
+				start += n;
+				length -= n;
+			}
+		}
+
+		private void string(byte[] bytes){
+			varint(bytes.length);
+			for (int i = 0; i < bytes.length; ){
+				ensure(1);
+				int n = Math.min(bytes.length - i, _buffer.length - _size);
+				System.arraycopy(bytes, i, _buffer, _size, n);
+				_size += n;
+				i += n;
+			}
+		}
+
+		private void u8(int b){
+			_buffer[_size++] = (byte)b;
+		}
+
+		private void int4(int v){
+			u8(v >>> 24);
+			u8(v >>> 16);
+			u8(v >>> 8);
+			u8(v);
+		}
+
+		private void varint(int v){
+			while ((v & ~0x7f) != 0){
+				_buffer[_size++] = (byte)(v | 0x80);
+				v >>>= 7;
+			}
+			_buffer[_size++] = (byte)v;
+		}
+
+		// makes room for n more bytes (n at most the buffer's size)
+		private void ensure(int n){
+			if (_size + n > _buffer.length){
+				flush();
+			}
+		}
+
+		private void flush(){
+			try {
+				_out.write(_buffer, 0, _size);
+				_size = 0;
+			} catch (IOException e){
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
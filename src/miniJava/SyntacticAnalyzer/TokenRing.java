@@ -0,0 +1,124 @@
+package miniJava.SyntacticAnalyzer;
+
+// TokenCursor straight over a Scanner (or a TokenFile being read, or a ScanPipeline) that keeps only a window of the token stream, in a fixed ring of parallel arrays
+//  (as in TokenStore): the current token, up to MAX_PEEK tokens scanned ahead of it for peek, and the most recent ones
+//  behind it for token(index), which error messages use. Nothing is allocated per token, and parsing a file takes
+//  the same few hundred bytes of token storage however long it is; a TokenStore keeps every token instead.
+public class TokenRing implements TokenCursor, TokenSink {
+	private static final TokenType[] TYPES = TokenType.values();
+	public static final int MAX_PEEK = 8;
+	private static final int SIZE = 32; //a power of two; SIZE - MAX_PEEK - 1 tokens are kept behind the current one
+	private static final int MASK = SIZE - 1;
+
+	private Scanner _scanner;
+	private TokenFile _file; //read instead, if not null
+	private ScanPipeline _pipeline; //or this
+	private SourceBuffer _source;
+	private byte[] _types = new byte[SIZE];
+	private int[] _starts = new int[SIZE];
+	private int[] _ends = new int[SIZE];
+	private int _index = 0; //the current token
+	private int _scanned = 0; //tokens scanned so far; the newest is _scanned - 1
+	private SourceText _text; //view returned by text(), reused
+
+	public TokenRing(Scanner scanner){
+		this._scanner = scanner;
+		this._source = scanner.source();
+		this._text = new SourceText(_source, 0, 0);
+		scanner.scanInto(this);
+	}
+
+	TokenRing(TokenFile file){
+		this._file = file;
+		this._source = file;
+		this._text = new SourceText(file, 0, 0);
+		file.readInto(this);
+	}
+
+	TokenRing(ScanPipeline pipeline){
+		this._pipeline = pipeline;
+		this._source = pipeline.source();
+		this._text = new SourceText(_source, 0, 0);
+		pipeline.readInto(this);
+	}
+
+	// Called by the Scanner (or TokenFile, or ScanPipeline) with each token it scans
+	@Override
+	public void add(TokenType type, int start, int end){
+		int slot = _scanned & MASK;
+		_types[slot] = (byte)type.ordinal();
+		_starts[slot] = start;
+		_ends[slot] = end;
+		_scanned++;
+	}
+
+	// Scans until token index is in the ring, or the stream has ended; returns the slot of index, or of the EOT ending it
+	private int fill(int index){
+		while (index >= _scanned){
+			if (TYPES[_types[(_scanned - 1) & MASK]] == TokenType.EOT){
+				return (_scanned - 1) & MASK;
+			}
+			if (_pipeline != null){
+				_pipeline.readInto(this);
+			} else if (_file != null){
+				_file.readInto(this);
+			} else {
+				_scanner.scanInto(this);
+			}
+		}
+		return index & MASK;
+	}
+
+	public TokenType type(){
+		return TYPES[_types[_index & MASK]];
+	}
+
+	public TokenType peek(int k){
+		if (k < 0 || k > MAX_PEEK){
+			throw new IllegalArgumentException("can only peek 0 to " + MAX_PEEK + " tokens ahead, not " + k);
+		}
+		return TYPES[_types[fill(_index + k)]];
+	}
+
+	public CharSequence text(){
+		_text.reset(start(), end());
+		return _text;
+	}
+
+	public int start(){
+		return _starts[_index & MASK];
+	}
+
+	public int end(){
+		return _ends[_index & MASK];
+	}
+
+	public int index(){
+		return _index;
+	}
+
+	public void advance(){
+		//EOT is sticky, like calling Scanner.scan() at the end of input
+		if (type() != TokenType.EOT){
+			_index++;
+			fill(_index);
+		}
+	}
+
+	// index must be one of the last SIZE tokens scanned: at least SIZE - MAX_PEEK - 1 tokens back are always kept
+	public Token token(int index){
+		if (index >= _scanned || index < _scanned - SIZE){
+			throw new IllegalArgumentException("token " + index + " is not in the ring (current token " + _index + ")");
+		}
+		int slot = index & MASK;
+		return new Token(TYPES[_types[slot]], _source.text(_starts[slot], _ends[slot]), _starts[slot], _source.lines());
+	}
+
+	public String sourceName(){
+		return _source.getName();
+	}
+
+	public SourceBuffer source(){
+		return _source;
+	}
+}
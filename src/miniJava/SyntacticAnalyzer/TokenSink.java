@@ -0,0 +1,7 @@
+package miniJava.SyntacticAnalyzer;
+
+// Where Scanner.scanInto puts each token it scans: a TokenStore, a TokenRing reading ahead, a TokenFile.Writer,
+//  or a ScanPipeline.Batch. A token is its type and the range [start,end) of the source it spans.
+interface TokenSink {
+	void add(TokenType type, int start, int end);
+}
@@ -0,0 +1,220 @@
+package miniJava.SyntacticAnalyzer;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+// Struct-of-arrays token buffer: token i is spread across parallel primitive arrays instead of being a Token object.
+//  The type is a byte (TokenType ordinal), and the text is the range [start,end) of the source buffer.
+//  Line and column aren't stored; they come from the source's LineIndex when a Token is materialized.
+//
+//  Size per token (64-bit JVM, compressed oops):
+//   TokenStore: 1 (type) + 4 (start) + 4 (end)                                    = 9 bytes, no objects, no copied text
+//   Token:      32 (Token) + 24 (String) + 16 + text length rounded up to 8 (byte[]) = ~72 + n bytes, 3 objects
+public class TokenStore implements TokenSink {
+	private static final TokenType[] TYPES = TokenType.values();
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private SourceBuffer _source;
+	private byte[] _types = new byte[INITIAL_CAPACITY];
+	private int[] _starts = new int[INITIAL_CAPACITY];
+	private int[] _ends = new int[INITIAL_CAPACITY];
+	private int _size = 0;
+
+	public TokenStore(SourceBuffer source){
+		this._source = source;
+	}
+
+	// Scans all of scanner's tokens (up to and including EOT) into a new store
+	public static TokenStore scanAll(Scanner scanner){
+		TokenStore store = new TokenStore(scanner.source());
+		while (scanner.scanInto(store) != TokenType.EOT){ }
+		return store;
+	}
+
+	// Appends a token spanning [start,end) of the source
+	@Override
+	public void add(TokenType type, int start, int end){
+		if (_size == _types.length){
+			int capacity = _size * 2;
+			_types = Arrays.copyOf(_types, capacity);
+			_starts = Arrays.copyOf(_starts, capacity);
+			_ends = Arrays.copyOf(_ends, capacity);
+		}
+		_types[_size] = (byte)type.ordinal();
+		_starts[_size] = start;
+		_ends[_size] = end;
+		_size++;
+	}
+
+	// Replaces tokens [from,to) with all of other's, in place, and moves the offsets of the tokens after them by shift.
+	//  The tokens after them are moved over only if the count changes; the arrays only grow when they are full.
+	void splice(int from, int to, TokenStore other, int shift){
+		int n = other._size;
+		int size = _size - (to - from) + n;
+		if (size > _types.length){
+			int capacity = Math.max(_types.length * 2, size);
+			_types = Arrays.copyOf(_types, capacity);
+			_starts = Arrays.copyOf(_starts, capacity);
+			_ends = Arrays.copyOf(_ends, capacity);
+		}
+		if (from + n != to){
+			System.arraycopy(_types, to, _types, from + n, _size - to);
+			System.arraycopy(_starts, to, _starts, from + n, _size - to);
+			System.arraycopy(_ends, to, _ends, from + n, _size - to);
+		}
+		System.arraycopy(other._types, 0, _types, from, n);
+		System.arraycopy(other._starts, 0, _starts, from, n);
+		System.arraycopy(other._ends, 0, _ends, from, n);
+		if (shift != 0){
+			for (int i = from + n; i < size; i++){
+				_starts[i] += shift;
+				_ends[i] += shift;
+			}
+		}
+		_size = size;
+	}
+
+	// Drops every token from index size on
+	void truncate(int size){
+		_size = size;
+	}
+
+	public SourceBuffer source(){
+		return _source;
+	}
+
+	// for a source replaced by an editable copy of itself (see IncrementalLexer)
+	void setSource(SourceBuffer source){
+		this._source = source;
+	}
+
+	public int size(){
+		return _size;
+	}
+
+	public TokenType type(int i){
+		return TYPES[_types[i]];
+	}
+
+	public CharSequence text(int i){
+		return _source.text(_starts[i], _ends[i]);
+	}
+
+	public int start(int i){
+		return _starts[i];
+	}
+
+	public int end(int i){
+		return _ends[i];
+	}
+
+	public int line(int i){
+		return _source.lines().line(_starts[i]);
+	}
+
+	public int col(int i){
+		return _source.lines().col(_starts[i]);
+	}
+
+	public Token token(int i){
+		return new Token(type(i), text(i), _starts[i], _source.lines());
+	}
+
+	// Read-only view of the store as Token objects, created as they are accessed
+	public List<Token> tokens(){
+		return new AbstractList<Token>(){
+			public Token get(int i){
+				if (i < 0 || i >= _size){
+					throw new IndexOutOfBoundsException(i);
+				}
+				return token(i);
+			}
+
+			public int size(){
+				return _size;
+			}
+		};
+	}
+
+	// Cursor over the tokens already in the store
+	public TokenCursor cursor(){
+		return new Cursor(null);
+	}
+
+	// Cursor that scans further tokens into the store as the Parser reaches them,
+	//  so scanning and its errors stay interleaved with parsing.
+	public TokenCursor cursor(Scanner scanner){
+		return new Cursor(scanner);
+	}
+
+	private class Cursor implements TokenCursor {
+		private Scanner _scanner;
+		private int _index = 0;
+		private SourceText _text = new SourceText(_source, 0, 0); //view returned by text(), reused
+
+		Cursor(Scanner scanner){
+			this._scanner = scanner;
+			fill(0);
+		}
+
+		// scans until token index is in the store, or the stream has ended; returns index, or that of the EOT ending it
+		private int fill(int index){
+			while (index >= _size){
+				if (_scanner == null || (_size > 0 && _types[_size - 1] == TokenType.EOT.ordinal())){
+					return _size - 1;
+				}
+				_scanner.scanInto(TokenStore.this);
+			}
+			return index;
+		}
+
+		public TokenType type(){
+			return TYPES[_types[_index]];
+		}
+
+		public TokenType peek(int k){
+			if (k < 0 || k > TokenRing.MAX_PEEK){
+				throw new IllegalArgumentException("can only peek 0 to " + TokenRing.MAX_PEEK + " tokens ahead, not " + k);
+			}
+			return TYPES[_types[fill(_index + k)]];
+		}
+
+		public CharSequence text(){
+			_text.reset(_starts[_index], _ends[_index]);
+			return _text;
+		}
+
+		public int start(){
+			return _starts[_index];
+		}
+
+		public int end(){
+			return _ends[_index];
+		}
+
+		public int index(){
+			return _index;
+		}
+
+		public void advance(){
+			//EOT is sticky, like calling Scanner.scan() at the end of input
+			if (type() != TokenType.EOT){
+				_index++;
+				fill(_index);
+			}
+		}
+
+		public Token token(int index){
+			return TokenStore.this.token(index);
+		}
+
+		public String sourceName(){
+			return _source.getName();
+		}
+
+		public SourceBuffer source(){
+			return _source;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package miniJava.SyntacticAnalyzer;
+
+// UTF-8 decoding of a SourceBuffer, shared by the Scanner and what has to agree with it (SourceText, LineIndex columns).
+//  An invalid sequence (bad lead or continuation byte, overlong form, surrogate, above U+10FFFF, or cut short) becomes
+//  one U+FFFD for its longest valid prefix, at least one byte, as the Unicode standard recommends.
+//  (java.nio's decoder differs from this for some surrogates, so it is not used for any of them.)
+final class Utf8 {
+	static final int REPLACEMENT = 0xfffd;
+
+	private Utf8(){ }
+
+	// Code point of the sequence at offset, whose lead byte is >= 128, reading no byte at or past limit;
+	//  or, if it is invalid, minus the number of bytes to replace
+	static int decode(SourceBuffer in, int offset, int limit){
+		int lead = in.get(offset) & 0xff;
+		int length, min, max; //sequence length, and the range of the second byte
+		int c;
+		if (lead >= 0xc2 && lead <= 0xdf){
+			length = 2; min = 0x80; max = 0xbf; c = lead & 0x1f;
+		} else if (lead >= 0xe0 && lead <= 0xef){
+			length = 3; c = lead & 0x0f;
+			min = lead == 0xe0 ? 0xa0 : 0x80; //overlong below U+0800
+			max = lead == 0xed ? 0x9f : 0xbf; //surrogates U+D800-DFFF
+		} else if (lead >= 0xf0 && lead <= 0xf4){
+			length = 4; c = lead & 0x07;
+			min = lead == 0xf0 ? 0x90 : 0x80; //overlong below U+10000
+			max = lead == 0xf4 ? 0x8f : 0xbf; //above U+10FFFF
+		} else {
+			return -1;
+		}
+		for (int i = 1; i < length; i++){
+			if (offset + i >= limit){
+				return -i;
+			}
+			int b = in.get(offset + i) & 0xff;
+			if (i == 1 ? b < min || b > max : (b & 0xc0) != 0x80){
+				return -i;
+			}
+			c = (c << 6) | (b & 0x3f);
+		}
+		return c;
+	}
+
+	// number of bytes of a valid sequence for codePoint
+	static int length(int codePoint){
+		return codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+	}
+
+	// Appends the text of [start,end) to out, or only counts its UTF-16 chars if out is null
+	static int decode(SourceBuffer in, int start, int end, StringBuilder out){
+		int chars = 0;
+		int i = start;
+		while (i < end){
+			int b = in.get(i);
+			int c;
+			if (b >= 0){
+				c = b;
+				i++;
+			} else {
+				c = decode(in, i, end);
+				if (c < 0){
+					i -= c;
+					c = REPLACEMENT;
+				} else {
+					i += length(c);
+				}
+			}
+			chars += Character.charCount(c);
+			if (out != null){
+				out.appendCodePoint(c);
+			}
+		}
+		return chars;
+	}
+}
@@ -0,0 +1,94 @@
+# Token specification for the table-driven Scanner. ScannerGenerator compiles it into the minimized DFAs of ScannerTables:
+#  java miniJava.SyntacticAnalyzer.ScannerGenerator src/miniJava/SyntacticAnalyzer/tokens.spec src/miniJava/SyntacticAnalyzer/ScannerTables.java
+#
+# Definitions:  name = pattern
+# Rules:        [mini|full] action pattern
+#  action is a TokenType, skip (whitespace and comments), or error (input the hand-written Scanner reports an error for).
+#  The longest match wins, and of rules matching the same text, the first one. A rule marked mini or full
+#  only applies to that dialect (Compiler.IS_MINI).
+# Patterns: "text", [class] or [^class] (ranges a-z; escapes \t \n \f \r \\ \] \- \^ \xHH), {name}, (p), p|q, p*, p+, p?
+#  Bytes >= 128 are never matched, not even by negated classes: the Scanner decodes them as UTF-8 by hand.
+#  Byte 0 is the Scanner's end of input marker and is never matched.
+#
+# The rules must give the same tokens as the hand-written Scanner, which decides on a character and never backs up.
+#  Where the DFA would have to back up, or stops on a byte >= 128, the Scanner falls back to the hand-written code.
+
+whitespace = [\t\n\x0b\f\r\x1c-\x1f ]
+letter = [A-Za-z]
+digit = [0-9]
+# Character.isJavaIdentifierPart, without the end of input marker
+identpart = [A-Za-z0-9_$\x01-\x08\x0e-\x1b\x7f]
+
+skip {whitespace}+
+skip "//" [^\n]* "\n"
+skip "/*" ([^*] | "*"+ [^*/])* "*"+ "/"
+
+# operators
+assignOp "/=" | [+\-*%|&] "="
+binOp "/" | "|" | "||" | "&" | "&&"
+# the Scanner takes whatever character follows *, % and ~ into the operator
+binOp [*%] [^=] | "~" [^]
+assignment "="
+compOp "==" | "!=" | "<=" | ">="
+incOp "++" | "--"
+genOp "+" | "-"
+unOp "!"
+lchevron "<"
+rchevron ">"
+
+# punctuation
+dot "."
+full ellipsis "..."
+comma ","
+colon ":"
+semicolon ";"
+question "?"
+lcurly "{"
+rcurly "}"
+lparen "("
+rparen ")"
+lsquare "["
+rsquare "]"
+
+# keywords, before identifiers so that they win ties
+classKeyword "class"
+ifKeyword "if"
+elseKeyword "else"
+forKeyword "for"
+thisKeyword "this"
+whileKeyword "while"
+voidKeyword "void"
+newKeyword "new"
+returnKeyword "return"
+boolLiteral "true" | "false"
+full packageKeyword "package"
+full importKeyword "import"
+full throwsKeyword "throws"
+full throwKeyword "throw"
+full implementsKeyword "implements"
+full extendsKeyword "extends"
+full tryKeyword "try"
+full catchKeyword "catch"
+full finallyKeyword "finally"
+full breakKeyword "break"
+full continueKeyword "continue"
+full doKeyword "do"
+full switchKeyword "switch"
+full caseKeyword "case"
+intPrimitive "int"
+boolPrimitive "boolean"
+stringPrimitive "String"
+floatPrimitive "float"
+doublePrimitive "double"
+charPrimitive "char"
+protection "public" | "private" | "protected"
+modifier "static" | "final" | "volatile" | "abstract"
+
+mini id {letter} {identpart}*
+full id [A-Za-z_$] {identpart}*
+
+# literals (no escape sequences)
+intLiteral {digit}+
+error {digit}+ [A-Za-z_]
+stringLiteral "\"" [^"]* "\""
+charLiteral "'" [^'] "'"
@@ -0,0 +1,301 @@
+package miniJava.Testing;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import miniJava.Compiler;
+import miniJava.CompilerError;
+import miniJava.ErrorReporter;
+
+// Runs a conformance corpus: every file is compiled and checked against its expected outcome, by the convention
+//  of the directory mode of Compiler.main: a file with "fail" in its name must have errors, any other must compile cleanly.
+//  Unlike that mode, it reports each file's result and wall time, names the files that failed and why,
+//  and can write the results as JUnit XML for CI.
+//
+// usage: ConformanceRunner [-j workers] [-junit file] [-slowest n] [-failfast] [-maxtime ms] [-maxerrors n] path...
+//  paths are files, or directories searched recursively (hidden files are skipped); files run in sorted path order
+//  -junit writes a JUnit XML report, one testcase per file
+//  -slowest lists the n slowest files at the end (default 10; 0 for none)
+//  -failfast stops at the first failing file (in path order), reporting the rest as skipped; by default all files run
+//  -maxtime fails a file that takes longer than ms to compile, even with the expected outcome, as a performance gate
+// Exits with 1 if any file failed, so a CI step fails with it.
+public class ConformanceRunner {
+	private static final String SUITE = "miniJava.conformance";
+
+	private int _workers = Runtime.getRuntime().availableProcessors();
+	private File _junit;
+	private int _slowest = 10;
+	private boolean _failFast;
+	private long _maxNanos = Long.MAX_VALUE;
+	private int _errorLimit = ErrorReporter.DEFAULT_ERROR_LIMIT;
+
+	// result of one file
+	static class Result {
+		File file;
+		boolean expectErrors;
+		boolean ran; //false if skipped by -failfast
+		boolean passed;
+		String failure; //why it failed, if it did
+		List<CompilerError> errors;
+		long nanos;
+	}
+
+	public static void main(String[] args) throws IOException {
+		ConformanceRunner runner = new ConformanceRunner();
+		List<File> paths = new ArrayList<>();
+		for (int i = 0; i < args.length; i++){
+			if ((args[i].equals("-j") || args[i].equals("--jobs")) && i + 1 < args.length){
+				runner._workers = Math.max(1, Integer.parseInt(args[++i]));
+			} else if (args[i].equals("-junit") && i + 1 < args.length){
+				runner._junit = new File(args[++i]);
+			} else if (args[i].equals("-slowest") && i + 1 < args.length){
+				runner._slowest = Math.max(0, Integer.parseInt(args[++i]));
+			} else if (args[i].equals("-failfast")){
+				runner._failFast = true;
+			} else if (args[i].equals("-maxtime") && i + 1 < args.length){
+				runner._maxNanos = (long)(Double.parseDouble(args[++i]) * 1e6);
+			} else if (args[i].equals("-maxerrors") && i + 1 < args.length){
+				runner._errorLimit = Math.max(1, Integer.parseInt(args[++i]));
+			} else {
+				paths.add(new File(args[i]));
+			}
+		}
+		if (paths.isEmpty()){
+			System.err.println("usage: ConformanceRunner [-j workers] [-junit file] [-slowest n] [-failfast] [-maxtime ms] [-maxerrors n] path...");
+			System.exit(2);
+		}
+
+		List<File> files = new ArrayList<>();
+		for (File path : paths){
+			collect(path, files);
+		}
+		files.sort(Comparator.comparing(File::getPath));
+
+		Instant started = Instant.now();
+		long start = System.nanoTime();
+		List<Result> results = runner.run(files);
+		long wall = System.nanoTime() - start;
+
+		boolean passed = runner.report(results, wall);
+		if (runner._junit != null){
+			try (Writer out = new BufferedWriter(new FileWriter(runner._junit, StandardCharsets.UTF_8))){
+				writeJUnit(results, started, wall, out);
+			}
+		}
+		System.exit(passed ? 0 : 1);
+	}
+
+	private static void collect(File path, List<File> files){
+		if (path.isDirectory()){
+			File[] children = path.listFiles();
+			if (children != null){
+				for (File child : children){
+					if (!child.getName().startsWith(".")){
+						collect(child, files);
+					}
+				}
+			}
+		} else {
+			files.add(path);
+		}
+	}
+
+	// Compiles every file on a pool of _workers; results are in the order of files.
+	//  With -failfast, files after the first failure are cancelled (or their results dropped) and reported as skipped.
+	List<Result> run(List<File> files) throws IOException {
+		ForkJoinPool pool = new ForkJoinPool(_workers);
+		try {
+			List<Future<Result>> pending = new ArrayList<>(files.size());
+			for (File f : files){
+				pending.add(pool.submit(() -> runFile(f)));
+			}
+			List<Result> results = new ArrayList<>(files.size());
+			boolean stopped = false;
+			for (int i = 0; i < files.size(); i++){
+				Result result;
+				if (stopped){
+					pending.get(i).cancel(false);
+					result = new Result();
+					result.file = files.get(i);
+					result.expectErrors = expectsErrors(result.file);
+				} else {
+					try {
+						result = pending.get(i).get();
+					} catch (InterruptedException e){
+						Thread.currentThread().interrupt();
+						throw new IOException(e);
+					} catch (ExecutionException e){
+						if (e.getCause() instanceof IOException){
+							throw (IOException)e.getCause();
+						}
+						throw new IllegalStateException(e.getCause());
+					}
+					stopped = _failFast && !result.passed;
+				}
+				results.add(result);
+			}
+			return results;
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	static boolean expectsErrors(File f){
+		return f.getName().contains("fail");
+	}
+
+	private Result runFile(File f) throws IOException {
+		Result result = new Result();
+		result.file = f;
+		result.expectErrors = expectsErrors(f);
+		result.ran = true;
+		ErrorReporter reporter = new ErrorReporter();
+		reporter.setErrorLimit(_errorLimit);
+		long start = System.nanoTime();
+		try {
+			Compiler.compileFile(f, reporter);
+		} catch (StackOverflowError e){
+			result.nanos = System.nanoTime() - start;
+			result.failure = "compiler ran out of stack";
+			result.errors = reporter.getErrors();
+			return result;
+		}
+		result.nanos = System.nanoTime() - start;
+		result.errors = reporter.getErrors();
+		if (result.expectErrors && !reporter.hasErrors()){
+			result.failure = "expected errors, but compiled without any";
+		} else if (!result.expectErrors && reporter.hasErrors()){
+			result.failure = "expected no errors, but got " + reporter.errorCount();
+		} else if (result.nanos > _maxNanos){
+			result.failure = String.format("took %.1f ms, over the limit of %.1f ms", result.nanos / 1e6, _maxNanos / 1e6);
+		}
+		result.passed = result.failure == null;
+		return result;
+	}
+
+	// Prints each file's result, the failures with their errors, the slowest files and a summary; returns whether all passed
+	boolean report(List<Result> results, long wall){
+		int passed = 0, failed = 0, skipped = 0;
+		long total = 0;
+		for (Result r : results){
+			if (!r.ran){
+				skipped++;
+				System.out.printf("SKIP %10s  %s%n", "", r.file.getPath());
+				continue;
+			}
+			total += r.nanos;
+			if (r.passed){
+				passed++;
+			} else {
+				failed++;
+			}
+			System.out.printf("%s %8.2f ms  %s%n", r.passed ? "PASS" : "FAIL", r.nanos / 1e6, r.file.getPath());
+		}
+
+		if (failed > 0){
+			System.out.println();
+			System.out.println("Failures:");
+			for (Result r : results){
+				if (r.ran && !r.passed){
+					System.out.println(r.file.getPath() + ": " + r.failure);
+					for (CompilerError err : r.errors){
+						System.out.println("    " + err);
+					}
+				}
+			}
+		}
+
+		if (_slowest > 0){
+			List<Result> ran = new ArrayList<>();
+			for (Result r : results){
+				if (r.ran){
+					ran.add(r);
+				}
+			}
+			ran.sort(Comparator.comparingLong((Result r) -> r.nanos).reversed());
+			System.out.println();
+			System.out.println("Slowest " + Math.min(_slowest, ran.size()) + ":");
+			for (Result r : ran.subList(0, Math.min(_slowest, ran.size()))){
+				System.out.printf("%10.2f ms  %s%n", r.nanos / 1e6, r.file.getPath());
+			}
+		}
+
+		System.out.println();
+		System.out.printf("%d passed, %d failed, %d skipped; %.1f ms compiling, %.1f ms wall%n",
+				passed, failed, skipped, total / 1e6, wall / 1e6);
+		return failed == 0;
+	}
+
+	// A single testsuite with a testcase per file, as CI servers read from Ant/Maven runs
+	static void writeJUnit(List<Result> results, Instant started, long wall, Writer out) throws IOException {
+		int failures = 0, skipped = 0;
+		for (Result r : results){
+			if (!r.ran){
+				skipped++;
+			} else if (!r.passed){
+				failures++;
+			}
+		}
+		out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		out.write("<testsuite name=\"" + SUITE + "\" tests=\"" + results.size() + "\" failures=\"" + failures
+				+ "\" errors=\"0\" skipped=\"" + skipped + "\" time=\"" + seconds(wall)
+				+ "\" timestamp=\"" + started.truncatedTo(ChronoUnit.SECONDS) + "\">\n");
+		for (Result r : results){
+			out.write("  <testcase classname=\"" + SUITE + "\" name=\"");
+			escape(r.file.getPath(), out);
+			out.write("\" time=\"" + seconds(r.nanos) + "\"");
+			if (r.ran && r.passed){
+				out.write("/>\n");
+				continue;
+			}
+			out.write(">\n");
+			if (!r.ran){
+				out.write("    <skipped message=\"not run after an earlier failure (-failfast)\"/>\n");
+			} else {
+				out.write("    <failure message=\"");
+				escape(r.failure, out);
+				out.write("\">");
+				for (CompilerError err : r.errors){
+					escape(err.toString(), out);
+					out.write('\n');
+				}
+				out.write("</failure>\n");
+			}
+			out.write("  </testcase>\n");
+		}
+		out.write("</testsuite>\n");
+	}
+
+	private static String seconds(long nanos){
+		return String.format("%.3f", nanos / 1e9);
+	}
+
+	// Escapes text for an XML attribute or element, dropping the control characters XML 1.0 cannot hold
+	private static void escape(String text, Writer out) throws IOException {
+		for (int i = 0; i < text.length(); i++){
+			char c = text.charAt(i);
+			switch (c){
+				case '<': out.write("&lt;"); break;
+				case '>': out.write("&gt;"); break;
+				case '&': out.write("&amp;"); break;
+				case '"': out.write("&quot;"); break;
+				default:
+					if (c >= 0x20 || c == '\n' || c == '\t' || c == '\r'){
+						out.write(c);
+					}
+			}
+		}
+	}
+}
@@ -0,0 +1,386 @@
+package miniJava.Testing;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+import miniJava.Compiler;
+import miniJava.ErrorReporter;
+
+// Generates synthetic miniJava files, far larger than hand-written tests, for scale testing.
+//
+// The generator follows what the Parser accepts in miniJava mode:
+//  ClassDeclaration ::= class id { (FieldDeclaration | MethodDeclaration)* }
+//  FieldDeclaration ::= [public|private] [static] Type id ;
+//  MethodDeclaration ::= [public|private] [static] (Type | void) id ( [Type id (, Type id)*] ) { Statement* }
+//  Type ::= int | boolean | id | int[] | id[]
+//  Statement ::= { Statement* } | Type id = Expression ; | Reference [ [Expression] ] = Expression ; | Reference ( Args ) ;
+//              | return [Expression] ; | if ( Expression ) Statement [else Statement] | while ( Expression ) Statement
+//  Expression ::= Reference [ [Expression] | ( Args ) ] | unop Expression | Expression binop Expression | ( Expression )
+//               | num | true | false | new id ( ) | new int [ Expression ] | new id [ Expression ]
+//  Reference ::= (id | this) (. id)*
+// Operators are always written with spaces around them: the Scanner takes the character after '*' and '%' as part of the operator.
+//
+// Each file is valid, or has exactly one deliberate syntax error and "fail" in its name, as the directory mode of Compiler.main expects.
+//
+// usage: CorpusGenerator outDir [-size bytes] [-count n] [-seed n] [-shape shape] [-fail fraction] [-check]
+//  shapes: mixed (default), classes (many small classes), statements (one method with a huge body),
+//          identifiers (long identifiers and literals), nesting (deeply nested blocks and expressions, long operator chains)
+//  -check compiles each file written, and exits with 1 unless each has no errors, or exactly one if it is to fail
+//   (the nesting shape needs a large stack, e.g. -Xss64m)
+public class CorpusGenerator {
+	public static final String[] SHAPES = {"mixed", "classes", "statements", "identifiers", "nesting"};
+
+	private static final String[] BINOPS = {"+", "-", "*", "/", "&&", "||", "==", "!=", "<", ">", "<=", ">="};
+	private static final String[] UNOPS = {"!", "-"};
+	// each ends with the ';' that error recovery skips to, so that it takes nothing after it along (see Parser.synchronize)
+	private static final String[] BROKEN_STATEMENTS = {
+		"int x = ;", "x + 1;", "while x) y = 1;", "return return;", "if (x) else y = 1;", "y = = 2;", "a.b(;"
+	};
+
+	private Random _random;
+	private String _shape;
+	private Writer _out;
+	private long _written;
+	private long _target;
+	private boolean _failing;
+	private boolean _brokenWritten;
+	private int _names = 0;
+
+	public CorpusGenerator(long seed, String shape){
+		this._random = new Random(seed);
+		this._shape = shape;
+	}
+
+	public static void main(String[] args) throws IOException {
+		File dir = null;
+		long size = 1 << 20;
+		int count = 1;
+		long seed = 520;
+		String shape = "mixed";
+		double fail = 0.5;
+		boolean check = false;
+		for (int i = 0; i < args.length; i++){
+			if (args[i].equals("-size") && i + 1 < args.length){
+				size = Long.parseLong(args[++i]);
+			} else if (args[i].equals("-count") && i + 1 < args.length){
+				count = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-seed") && i + 1 < args.length){
+				seed = Long.parseLong(args[++i]);
+			} else if (args[i].equals("-shape") && i + 1 < args.length){
+				shape = args[++i];
+			} else if (args[i].equals("-fail") && i + 1 < args.length){
+				fail = Double.parseDouble(args[++i]);
+			} else if (args[i].equals("-check")){
+				check = true;
+			} else {
+				dir = new File(args[i]);
+			}
+		}
+		if (dir == null){
+			System.err.println("usage: CorpusGenerator outDir [-size bytes] [-count n] [-seed n] [-shape shape] [-fail fraction] [-check]");
+			System.exit(1);
+		}
+		dir.mkdirs();
+		Random files = new Random(seed);
+		int wrong = 0;
+		for (int i = 0; i < count; i++){
+			boolean failing = files.nextDouble() < fail;
+			String fileShape = shape.equals("mixed") ? SHAPES[1 + files.nextInt(SHAPES.length - 1)] : shape;
+			String name = String.format("%s%05d_%s.java", failing ? "fail" : "pass", i, fileShape);
+			try (Writer out = new BufferedWriter(new FileWriter(new File(dir, name)), 1 << 16)){
+				new CorpusGenerator(files.nextLong(), fileShape).generate(out, size, failing);
+			}
+			if (check && !check(new File(dir, name), failing)){
+				wrong++;
+			}
+		}
+		if (wrong > 0){
+			System.err.println(wrong + " of " + count + " files did not compile as generated");
+			System.exit(1);
+		}
+	}
+
+	// Whether f reports no errors, or exactly one if failing; prints what it reported if not
+	static boolean check(File f, boolean failing) throws IOException {
+		ErrorReporter reporter = new ErrorReporter();
+		try {
+			Compiler.compileFile(f, reporter);
+		} catch (StackOverflowError e){
+			System.err.println(f + ": compiler ran out of stack");
+			return false;
+		}
+		if (reporter.errorCount() == (failing ? 1 : 0)){
+			return true;
+		}
+		System.err.println(f + ": expected " + (failing ? "one error" : "no errors") + ", got " + reporter.errorCount());
+		reporter.outputErrors(System.err, false);
+		return false;
+	}
+
+	// Writes one file of about targetBytes to out; with failing, it contains exactly one syntax error
+	public void generate(Writer out, long targetBytes, boolean failing) throws IOException {
+		this._out = out;
+		this._written = 0;
+		this._target = targetBytes;
+		this._failing = failing;
+		this._brokenWritten = false;
+		switch (_shape){
+			case "classes":
+				while (!full()){
+					classDeclaration(1 + _random.nextInt(3), 1 + _random.nextInt(3), 4);
+				}
+				break;
+			case "statements":
+				write("class Statements {\n  int x;\n  int[] a;\n  void run(int y, boolean b) {\n");
+				while (!full()){
+					statement(2, 2);
+				}
+				write("  }\n}\n");
+				break;
+			case "identifiers":
+				write("class " + longName() + " {\n  void " + longName() + "() {\n");
+				while (!full()){
+					String name = longName();
+					write("    int " + name + " = " + longNumber() + " + " + longNumber() + ";\n");
+					if (_random.nextInt(4) == 0){
+						maybeBroken();
+					}
+				}
+				write("  }\n}\n");
+				break;
+			case "nesting":
+				write("class Nesting {\n  int x;\n  void run(int y) {\n");
+				while (!full()){
+					switch (_random.nextInt(3)){
+						case 0: nestedBlocks(); break;
+						case 1: nestedParens(); break;
+						default: operatorChain(); break;
+					}
+					maybeBroken();
+				}
+				write("  }\n}\n");
+				break;
+			default:
+				throw new IllegalArgumentException("unknown shape " + _shape);
+		}
+		if (_failing && !_brokenWritten){
+			//the file filled up before the error was placed; a trailing stray token is always an error
+			write("class ;\n");
+		}
+	}
+
+	private boolean full(){
+		return _written >= _target;
+	}
+
+	private void write(String s) throws IOException {
+		_out.write(s);
+		_written += s.length();
+	}
+
+	private void indent(int depth) throws IOException {
+		for (int i = 0; i < depth; i++){
+			write("  ");
+		}
+	}
+
+	// Writes the broken statement of a failing file, at a random point once at least half of the file is written;
+	//  returns whether it did, so that a statement being generated is replaced by it rather than added to
+	private boolean maybeBroken() throws IOException {
+		if (_failing && !_brokenWritten && _written >= _target / 2 && _random.nextInt(8) == 0){
+			write(BROKEN_STATEMENTS[_random.nextInt(BROKEN_STATEMENTS.length)] + "\n");
+			_brokenWritten = true;
+			return true;
+		}
+		return false;
+	}
+
+	private void classDeclaration(int fields, int methods, int statements) throws IOException {
+		write("class " + name("C") + " {\n");
+		for (int i = 0; i < fields; i++){
+			write("  " + modifiers() + type() + " " + name("f") + ";\n");
+		}
+		for (int i = 0; i < methods; i++){
+			write("  " + modifiers() + (_random.nextBoolean() ? "void" : type()) + " " + name("m") + "(");
+			int params = _random.nextInt(3);
+			for (int p = 0; p < params; p++){
+				write((p > 0 ? ", " : "") + type() + " " + name("p"));
+			}
+			write(") {\n");
+			for (int s = 0; s < statements; s++){
+				statement(2, 2);
+			}
+			write("  }\n");
+		}
+		write("}\n");
+	}
+
+	private void statement(int depth, int nesting) throws IOException {
+		statement(depth, nesting, true);
+	}
+
+	// With breakable, the statement may be the broken one, or hold it. It must not be where error recovery would strand
+	//  what follows: recovering from an error in the then-branch of an if (at any depth short of a block, which recovers
+	//  statement by statement) abandons the if, leaving its else as a second error.
+	private void statement(int depth, int nesting, boolean breakable) throws IOException {
+		indent(depth);
+		if (breakable && maybeBroken()){
+			return;
+		}
+		switch (_random.nextInt(nesting > 0 ? 8 : 5)){
+			case 0:
+				write(type() + " " + name("v") + " = " + expression(2) + ";\n");
+				break;
+			case 1:
+				write(reference() + " = " + expression(2) + ";\n");
+				break;
+			case 2:
+				write(reference() + "[" + expression(1) + "] = " + expression(2) + ";\n");
+				break;
+			case 3:
+				write(reference() + "(" + arguments() + ");\n");
+				break;
+			case 4:
+				write(_random.nextBoolean() ? "return;\n" : "return " + expression(2) + ";\n");
+				break;
+			case 5:
+				write("if (" + expression(2) + ")\n");
+				boolean hasElse = _random.nextBoolean();
+				statement(depth + 1, nesting - 1, breakable && !hasElse);
+				if (hasElse){
+					indent(depth);
+					write("else\n");
+					statement(depth + 1, nesting - 1, breakable);
+				}
+				break;
+			case 6:
+				write("while (" + expression(2) + ")\n");
+				statement(depth + 1, nesting - 1, breakable);
+				break;
+			default:
+				write("{\n");
+				int n = _random.nextInt(4);
+				for (int i = 0; i < n; i++){
+					statement(depth + 1, nesting - 1);
+				}
+				indent(depth);
+				write("}\n");
+				break;
+		}
+	}
+
+	private String expression(int depth){
+		if (depth <= 0){
+			return primary();
+		}
+		switch (_random.nextInt(6)){
+			case 0: return UNOPS[_random.nextInt(UNOPS.length)] + " " + expression(depth - 1);
+			case 1: return "(" + expression(depth - 1) + ")";
+			case 2:
+			case 3: return expression(depth - 1) + " " + BINOPS[_random.nextInt(BINOPS.length)] + " " + expression(depth - 1);
+			default: return primary();
+		}
+	}
+
+	private String primary(){
+		switch (_random.nextInt(9)){
+			case 0: return Integer.toString(_random.nextInt(1000));
+			case 1: return _random.nextBoolean() ? "true" : "false";
+			case 2: return "new " + name("C") + "()";
+			case 3: return "new int[" + _random.nextInt(100) + "]";
+			case 4: return reference() + "[" + _random.nextInt(10) + "]";
+			case 5: return reference() + "(" + arguments() + ")";
+			default: return reference();
+		}
+	}
+
+	private String reference(){
+		StringBuilder ref = new StringBuilder(_random.nextInt(4) == 0 ? "this" : name("r"));
+		int fields = _random.nextInt(3);
+		for (int i = 0; i < fields; i++){
+			ref.append('.').append(name("g"));
+		}
+		return ref.toString();
+	}
+
+	private String arguments(){
+		int n = _random.nextInt(3);
+		StringBuilder args = new StringBuilder();
+		for (int i = 0; i < n; i++){
+			args.append(i > 0 ? ", " : "").append(expression(1));
+		}
+		return args.toString();
+	}
+
+	private String type(){
+		switch (_random.nextInt(5)){
+			case 0: return "int";
+			case 1: return "boolean";
+			case 2: return "int[]";
+			case 3: return name("T") + "[]";
+			default: return name("T");
+		}
+	}
+
+	private String modifiers(){
+		String protection = _random.nextInt(3) == 0 ? "" : (_random.nextBoolean() ? "public " : "private ");
+		return protection + (_random.nextInt(4) == 0 ? "static " : "");
+	}
+
+	private String name(String prefix){
+		return prefix + (_names++);
+	}
+
+	private String longName(){
+		StringBuilder name = new StringBuilder("id" + (_names++) + "_");
+		int len = 50 + _random.nextInt(2000);
+		for (int i = 0; i < len; i++){
+			name.append((char)('a' + _random.nextInt(26)));
+		}
+		return name.toString();
+	}
+
+	private String longNumber(){
+		StringBuilder number = new StringBuilder();
+		number.append((char)('1' + _random.nextInt(9)));
+		int len = _random.nextInt(1000);
+		for (int i = 0; i < len; i++){
+			number.append((char)('0' + _random.nextInt(10)));
+		}
+		return number.toString();
+	}
+
+	// { { { ... y = 1; ... } } }
+	private void nestedBlocks() throws IOException {
+		int depth = 1 + _random.nextInt(5000);
+		StringBuilder s = new StringBuilder();
+		for (int i = 0; i < depth; i++) s.append('{');
+		s.append(" y = 1; ");
+		for (int i = 0; i < depth; i++) s.append('}');
+		write("    " + s + "\n");
+	}
+
+	// y = ((((y))));
+	private void nestedParens() throws IOException {
+		int depth = 1 + _random.nextInt(5000);
+		StringBuilder s = new StringBuilder("    y = ");
+		for (int i = 0; i < depth; i++) s.append('(');
+		s.append('y');
+		for (int i = 0; i < depth; i++) s.append(')');
+		write(s + ";\n");
+	}
+
+	// y = y + 1 - y * 2 ...;
+	private void operatorChain() throws IOException {
+		int length = 1 + _random.nextInt(100000);
+		StringBuilder s = new StringBuilder("    y = y");
+		for (int i = 0; i < length; i++){
+			s.append(' ').append(BINOPS[_random.nextInt(BINOPS.length)]).append(' ').append(_random.nextBoolean() ? "y" : Integer.toString(i));
+		}
+		write(s + ";\n");
+	}
+}
@@ -0,0 +1,23 @@
+package miniJava;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// Errors one per line, as ErrorReporter.outputErrors has always printed them: file:line:col:: message
+public class TextErrorSink extends ErrorSink {
+	private static final String NEWLINE = System.lineSeparator();
+
+	private StringBuilder _line = new StringBuilder();
+
+	public TextErrorSink(Writer out, boolean stackTrace){
+		super(out, stackTrace);
+	}
+
+	@Override
+	public void write(CompilerError err) throws IOException {
+		_line.setLength(0);
+		err.appendTo(_line, _stackTrace);
+		_line.append(NEWLINE);
+		_out.append(_line);
+	}
+}